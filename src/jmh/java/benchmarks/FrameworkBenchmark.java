@@ -0,0 +1,147 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+import base.BrowserPool;
+import pages.HomePage;
+import pages.LoginPage;
+import utils.FormHelper;
+import utils.LocalSiteServer;
+
+/**
+ * Framework overhead benchmarks, run against the bundled DIGIT stub
+ * (src/test/resources/digit-stub) served from localhost, so the numbers
+ * measure our code and the browser, not a remote backend.
+ *
+ * Run:
+ *   mvn -Pbench verify
+ *   mvn -Pbench verify -Djmh.args="FrameworkBenchmark.context.* -f 1"
+ *
+ * Each benchmark reports throughput (ops/s) and sampled latency with
+ * percentiles; results are also written to target/jmh-result.json.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class FrameworkBenchmark {
+
+    private static final String APP = "/digit-ui";
+
+    private LocalSiteServer server;
+    private Playwright playwright;
+    private BrowserType chromium;
+    private Browser browser;
+
+    // Per-invocation fixtures for the page-level benchmarks
+    private BrowserContext context;
+    private Page page;
+    private FormHelper form;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        server = new LocalSiteServer().start();
+        playwright = Playwright.create();
+        chromium = playwright.chromium();
+        browser = chromium.launch(launchOptions());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() {
+        browser.close();
+        playwright.close();
+        server.stop();
+    }
+
+    @Setup(Level.Iteration)
+    public void openStubPage() {
+        context = browser.newContext();
+        page = context.newPage();
+        page.navigate(server.url(APP + "/employee/user/login"));
+        new LoginPage(page).login("bench", "bench");
+        page.navigate(server.url(APP + "/employee/pgr/create-complaint"));
+        form = new FormHelper(page);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeStubPage() {
+        context.close();
+    }
+
+    /**
+     * Full Chrome start and stop, the cost BrowserPool avoids per test.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public void browserLaunch() {
+        chromium.launch(launchOptions()).close();
+    }
+
+    // Same channel and arguments as the suite's BrowserPool; always headless here
+    private static BrowserType.LaunchOptions launchOptions() {
+        return BrowserPool.launchOptions().setHeadless(true);
+    }
+
+    /**
+     * Fresh context and page on an already running browser (what BaseTest pays per test).
+     */
+    @Benchmark
+    public void contextCreation() {
+        BrowserContext fresh = browser.newContext();
+        fresh.newPage();
+        fresh.close();
+    }
+
+    /**
+     * LoginPage.login through the UI on a fresh context.
+     */
+    @Benchmark
+    public HomePage login() {
+        BrowserContext fresh = browser.newContext();
+        try {
+            Page loginPage = fresh.newPage();
+            loginPage.navigate(server.url(APP + "/employee/user/login"));
+            return new LoginPage(loginPage).login("bench", "bench");
+        } finally {
+            fresh.close();
+        }
+    }
+
+    @Benchmark
+    public void formEnterText() {
+        form.enterText("textarea[name='description']", "Benchmark description");
+    }
+
+    @Benchmark
+    public void formClickAndSelect() {
+        form.clickAndSelect(".digit-dropdown-employee-select-wrap >> nth=0", ".main-option >> nth=1");
+    }
+
+    @Benchmark
+    public byte[] screenshotCapture() {
+        return page.screenshot();
+    }
+}
@@ -1,28 +1,59 @@
 package base;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
 
 import pages.HomePage;
-import pages.LoginPage;
+import utils.AssetCache;
 import utils.ConfigReader;
+import utils.CurrentTest;
 import utils.FormHelper;
+import utils.HarNetwork;
+import utils.LocatorCache;
+import utils.MasterDataCache;
 import utils.NavigationHelper;
+import utils.NetworkWaiter;
+import utils.PreconditionBreaker;
+import utils.ResourceBlocker;
 import utils.ScreenshotHelper;
+import utils.WaitHelper;
 
 /**
  * Base class for all test classes.
  * Handles browser setup, login, and teardown.
  *
+ * Browsers are borrowed from the suite-wide BrowserPool; each test only gets
+ * a fresh BrowserContext, so Chrome is launched once rather than per test.
+ * Contexts start from the LoginCache storage state, so the login form is only
+ * filled when there is no valid cached session.
+ * With NETWORK_MODE=record|replay, backend traffic is recorded to or served
+ * from HAR files per test class (see HarNetwork). Static assets are served from
+ * a cache shared by all contexts (see AssetCache), MDMS and localization
+ * responses from a suite-wide cache (see MasterDataCache), and resources the
+ * test does not need can be blocked with @BlockResources or RESOURCE_PROFILE.
+ *
+ * Context reuse (CONTEXT_REUSE=true, off by default):
+ *   After a passed test its context is kept for the next test on the same
+ *   thread if both have the same @StartState and blocking profile (and, when
+ *   replaying HARs, the same test class) (see
+ *   StateScheduler, which runs such tests back to back). Only what the test
+ *   declared with @Dirties is reset; a failed test's context is always closed.
+ *   A parked context keeps its pooled browser: it is closed when another thread
+ *   needs that browser, or after CONTEXT_REUSE_IDLE_MS (default 10000) unused.
+ *
  * Usage:
  *   public class MyTest extends BaseTest {
  *
@@ -34,14 +65,37 @@ import utils.ScreenshotHelper;
  *           // Use form for form interactions
  *           form.enterText("#field", "value");
  *
+ *           // Use waits instead of page.waitForTimeout()
+ *           waits.forVisible("#field");
+ *
  *           // Use homePage directly
  *           homePage.goToCreateComplaint();
  *       }
  *   }
+ *
+ * Parallel execution:
+ *   Every thread owns its own TestSession. With parallel="classes" the
+ *   protected fields are safe to use, since all methods of a class run on one
+ *   thread. With parallel="methods" several threads share the same test
+ *   instance, so use the accessors instead (page(), nav(), form(), waits(), homePage()),
+ *   which always return the current thread's objects.
+ *   See testng-parallel-methods.xml and testng-parallel-classes.xml.
  */
 public class BaseTest {
 
+    // Precondition every test shares (see PreconditionBreaker)
+    protected static final String LOGIN = "login";
+
+    private static final ThreadLocal<TestSession> SESSION = new ThreadLocal<>();
+
+    // Sessions kept open after a test for the next test on the same thread (CONTEXT_REUSE)
+    private static final Map<Thread, TestSession> PARKED = new ConcurrentHashMap<>();
+
+    // How long a thread waits for a pooled browser before closing another thread's parked session
+    private static final long LEASE_RECLAIM_MS = 1000;
+
     // Core Playwright objects
+    protected BrowserPool.Lease lease;
     protected Playwright playwright;
     protected Browser browser;
     protected BrowserContext context;
@@ -50,48 +104,296 @@ public class BaseTest {
     // Helpers available in all tests
     protected NavigationHelper nav;
     protected FormHelper form;
+    protected WaitHelper waits;
     protected ScreenshotHelper screenshot;
 
     // Pre-initialized page objects
     protected HomePage homePage;
 
     @BeforeMethod
-    public void setup() {
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                .setHeadless(Boolean.parseBoolean(ConfigReader.get("HEADLESS")))
-                .setChannel("chrome")
-                .setArgs(Arrays.asList("--disable-dev-shm-usage", "--no-sandbox", "--start-maximized")));
+    public void setup(Method method) {
+        String className = getClass().getSimpleName();
+        CurrentTest.set(className, method.getName());
+        // Skip before opening a context if any setup step this test needs keeps failing
+        preconditions().forEach(PreconditionBreaker::check);
+        String reuseKey = reuseKey(method, className);
+
+        closeIdleParked();
+        TestSession session = takeParked(reuseKey);
+        if (session == null) {
+            session = openSession(method, className);
+        }
+        session.reuseKey = reuseKey;
+        session.testName = CurrentTest.name();
+        SESSION.set(session);
+        exposeFields(session);
+        if (session.atStartState) {
+            // Reused context, page left at this start state by a test that dirtied nothing
+            homePage = session.homePage;
+            return;
+        }
 
-        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(null));
-        page = context.newPage();
-        page.setDefaultTimeout(60000);
+        // Navigate to app and login (skipped when the cached session is still valid)
+        TestSession opened = session;
+        session.homePage = PreconditionBreaker.run(LOGIN, () -> {
+            opened.page.navigate(ConfigReader.get("BASE_URL"), new Page.NavigateOptions().setTimeout(60000));
+            return LoginCache.login(opened.context, opened.page, opened.loginSeed);
+        });
+        homePage = session.homePage;
+    }
 
-        // Initialize helpers
-        nav = new NavigationHelper(page);
-        form = new FormHelper(page);
-        screenshot = new ScreenshotHelper(page);
+    private TestSession openSession(Method method, String className) {
+        TestSession session = new TestSession();
+        session.testName = CurrentTest.name();
+        session.lease = acquireLease();
+
+        // tearDown() never sees this session if opening it fails, so give the browser back here
+        try {
+            Browser.NewContextOptions contextOptions = new Browser.NewContextOptions().setViewportSize(null);
+            session.loginSeed = LoginCache.configure(contextOptions);
+            HarNetwork.configure(contextOptions, className, method.getName());
+            session.context = session.browser().newContext(contextOptions);
+            HarNetwork.attach(session.context, className);
+            AssetCache.install(session.context);
+            MasterDataCache.install(session.context);
+            ResourceBlocker.install(session.context, resourceProfile(method), () -> session.testName);
+            session.page = session.context.newPage();
+            session.page.setDefaultTimeout(60000);
+            NetworkWaiter.of(session.page);  // start tracking API calls before the first navigation
+        } catch (RuntimeException | Error e) {
+            close(session);
+            throw e;
+        }
 
-        // Navigate to app and login
-        page.navigate(ConfigReader.get("BASE_URL"), new Page.NavigateOptions().setTimeout(60000));
-        LoginPage loginPage = new LoginPage(page);
-        homePage = loginPage.login(ConfigReader.get("USERNAME"), ConfigReader.get("PASSWORD"));
+        // Initialize helpers
+        session.nav = new NavigationHelper(session.page);
+        session.form = new FormHelper(session.page);
+        session.waits = new WaitHelper(session.page);
+        session.screenshot = new ScreenshotHelper(session.page);
+        return session;
     }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown(ITestResult result) {
+        TestSession session = SESSION.get();
+        if (session == null) {
+            return;
+        }
+        SESSION.remove();
+
         try {
-            if (result.getStatus() == ITestResult.FAILURE && page != null) {
+            if (result.getStatus() == ITestResult.FAILURE && session.page != null) {
                 String testName = result.getMethod().getMethodName();
                 String className = result.getTestClass().getRealClass().getSimpleName();
-                screenshot.captureOnFailure(className, testName);
+                session.screenshot.captureOnFailure(className, testName);
             }
         } catch (Exception e) {
             // Ignore screenshot failures during teardown
         }
 
-        try { if (context != null) context.close(); } catch (Exception ignored) {}
-        try { if (browser != null) browser.close(); } catch (Exception ignored) {}
-        try { if (playwright != null) playwright.close(); } catch (Exception ignored) {}
+        if (!park(session, result)) {
+            close(session);
+        }
+        CurrentTest.clear();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownBrowserPool() {
+        PARKED.values().forEach(BaseTest::close);
+        PARKED.clear();
+        BrowserPool.shutdown();
+        String[] summaries = {AssetCache.summary(), MasterDataCache.summary(), LocatorCache.summary(),
+                PreconditionBreaker.summary()};
+        for (String summary : summaries) {
+            if (summary != null) {
+                System.out.println(summary);
+            }
+        }
+    }
+
+    // ==================== THREAD-SAFE ACCESSORS ====================
+
+    protected Page page() {
+        return current().page;
+    }
+
+    protected BrowserContext context() {
+        return current().context;
+    }
+
+    protected NavigationHelper nav() {
+        return current().nav;
+    }
+
+    protected FormHelper form() {
+        return current().form;
+    }
+
+    protected WaitHelper waits() {
+        return current().waits;
+    }
+
+    protected ScreenshotHelper screenshot() {
+        return current().screenshot;
+    }
+
+    protected HomePage homePage() {
+        return current().homePage;
+    }
+
+    /**
+     * Names of the PreconditionBreaker steps this class's setup goes through, checked
+     * before any setup runs. Subclasses that add setup steps extend the list.
+     */
+    protected List<String> preconditions() {
+        return List.of(LOGIN);
+    }
+
+    /**
+     * True when this test continues on a reused context whose page is still at
+     * the test's @StartState, so @BeforeMethods can skip walking to it.
+     */
+    protected boolean atStartState() {
+        return current().atStartState;
+    }
+
+    private static TestSession current() {
+        TestSession session = SESSION.get();
+        if (session == null) {
+            throw new IllegalStateException("No browser session on thread " + Thread.currentThread().getName()
+                    + " - was BaseTest.setup() run?");
+        }
+        return session;
+    }
+
+    // ==================== CONTEXT REUSE ====================
+
+    /**
+     * What a parked context must match to be reused: start state and blocking profile, plus the
+     * test class in replay mode, since the context replays that class's HAR files.
+     */
+    private String reuseKey(Method method, String className) {
+        String key = StateScheduler.startStateOf(getClass(), method) + "|" + resourceProfile(method);
+        return HarNetwork.mode() == HarNetwork.Mode.REPLAY ? key + "|" + className : key;
+    }
+
+    private static boolean isReuseEnabled() {
+        // HAR recording writes one file per context, so every test needs its own while recording
+        return ConfigReader.getBoolean("CONTEXT_REUSE", false) && HarNetwork.mode() != HarNetwork.Mode.RECORD;
+    }
+
+    /**
+     * The parked session of this thread if the next test can continue on it; any
+     * other parked session is closed.
+     */
+    private static TestSession takeParked(String reuseKey) {
+        TestSession parked = PARKED.remove(Thread.currentThread());
+        if (parked == null) {
+            return null;
+        }
+        if (parked.reuseKey.equals(reuseKey) && !parked.page.isClosed()) {
+            return parked;
+        }
+        close(parked);
+        return null;
+    }
+
+    /**
+     * Keep a passed test's session for the next test, resetting what it declared
+     * dirty (see @Dirties).
+     *
+     * @return false when the session has to be closed instead
+     */
+    private static boolean park(TestSession session, ITestResult result) {
+        if (!isReuseEnabled() || result.getStatus() != ITestResult.SUCCESS || session.page == null) {
+            return false;
+        }
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        Dirties dirties = method.getAnnotation(Dirties.class);
+        List<Dirties.Scope> scopes = dirties == null
+                ? List.of(Dirties.Scope.PAGE)
+                : Arrays.asList(dirties.value());
+        if (scopes.contains(Dirties.Scope.CONTEXT)) {
+            return false;
+        }
+        try {
+            if (scopes.contains(Dirties.Scope.STORAGE)) {
+                session.page.evaluate("() => sessionStorage.clear()");
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+        session.atStartState = !scopes.contains(Dirties.Scope.PAGE);
+        session.parkedAt = System.currentTimeMillis();
+        PARKED.put(Thread.currentThread(), session);
+        return true;
+    }
+
+    /**
+     * Borrow a browser. A parked session keeps its browser, so when the pool is
+     * exhausted the browser of another thread's parked session is taken back
+     * instead of waiting for a thread that may have no tests left.
+     */
+    private static BrowserPool.Lease acquireLease() {
+        BrowserPool.Lease lease;
+        while ((lease = BrowserPool.acquire(LEASE_RECLAIM_MS)) == null) {
+            reclaimParked(0);
+        }
+        return lease;
+    }
+
+    /**
+     * Close parked sessions of other threads that have not picked them up for
+     * CONTEXT_REUSE_IDLE_MS: their thread has most likely run its last test.
+     */
+    private static void closeIdleParked() {
+        if (!PARKED.isEmpty()) {
+            reclaimParked(ConfigReader.getInt("CONTEXT_REUSE_IDLE_MS", 10000));
+        }
+    }
+
+    /**
+     * Close other threads' sessions parked for at least minIdleMs. Removing the entry
+     * first makes this thread the only user of the session, as takeParked() would.
+     */
+    private static void reclaimParked(long minIdleMs) {
+        long now = System.currentTimeMillis();
+        PARKED.forEach((thread, parked) -> {
+            if (thread != Thread.currentThread() && now - parked.parkedAt >= minIdleMs
+                    && PARKED.remove(thread, parked)) {
+                close(parked);
+            }
+        });
+    }
+
+    private static void close(TestSession session) {
+        try { if (session.context != null) session.context.close(); } catch (Exception ignored) {}
+        BrowserPool.release(session.lease);
+    }
+
+    /**
+     * Blocking profile for a test: method annotation, then class annotation, then .env.
+     */
+    private ResourceBlocker.Profile resourceProfile(Method method) {
+        BlockResources annotation = method.getAnnotation(BlockResources.class);
+        if (annotation == null) {
+            annotation = getClass().getAnnotation(BlockResources.class);
+        }
+        return annotation != null ? annotation.value() : ResourceBlocker.configuredProfile();
+    }
+
+    /**
+     * Copy the session into the protected fields used by serial and class-parallel tests.
+     */
+    private void exposeFields(TestSession session) {
+        lease = session.lease;
+        playwright = session.playwright();
+        browser = session.browser();
+        context = session.context;
+        page = session.page;
+        nav = session.nav;
+        form = session.form;
+        waits = session.waits;
+        screenshot = session.screenshot;
     }
 }
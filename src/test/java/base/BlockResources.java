@@ -0,0 +1,31 @@
+package base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import utils.ResourceBlocker;
+
+/**
+ * Choose the resource blocking profile for a test class or test method.
+ *
+ * A method annotation wins over the class annotation, which wins over
+ * RESOURCE_PROFILE from .env. See ResourceBlocker for what each profile blocks.
+ *
+ * Usage:
+ *   @BlockResources(ResourceBlocker.Profile.MINIMAL)
+ *   public class ComplaintTest extends BaseTest { ... }
+ *
+ *   @Test
+ *   @BlockResources(ResourceBlocker.Profile.FULL)   // this test needs the map
+ *   public void showsBoundaryMap() { ... }
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface BlockResources {
+
+    ResourceBlocker.Profile value();
+}
@@ -0,0 +1,169 @@
+package base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+import utils.ConfigReader;
+
+/**
+ * Suite-scoped pool of launched browsers.
+ *
+ * Launching Chrome is the most expensive part of test setup, so instead of
+ * starting a new Playwright + Browser for every test, BaseTest borrows one
+ * from this pool and only creates a fresh BrowserContext per test.
+ *
+ * Each pooled entry owns its own Playwright instance. Playwright objects are
+ * not thread-safe, so an entry is only ever used by one thread at a time:
+ * it is handed out by acquire() and returned by release().
+ *
+ * Config (.env):
+ *   BROWSER_POOL_SIZE=4   Maximum number of browsers launched (default THREADS, or 1)
+ *
+ * Usage:
+ *   BrowserPool.Lease lease = BrowserPool.acquire();
+ *   BrowserContext context = lease.browser().newContext();
+ *   ...
+ *   context.close();
+ *   BrowserPool.release(lease);
+ */
+public final class BrowserPool {
+
+    private static final BlockingQueue<Lease> idle = new LinkedBlockingQueue<>();
+    private static final List<Lease> launched = new ArrayList<>();
+
+    private BrowserPool() {
+    }
+
+    /**
+     * A launched browser together with the Playwright instance that owns it.
+     */
+    public static final class Lease {
+
+        private final Playwright playwright;
+        private final Browser browser;
+
+        private Lease(Playwright playwright, Browser browser) {
+            this.playwright = playwright;
+            this.browser = browser;
+        }
+
+        public Playwright playwright() {
+            return playwright;
+        }
+
+        public Browser browser() {
+            return browser;
+        }
+
+        private void close() {
+            try { browser.close(); } catch (Exception ignored) {}
+            try { playwright.close(); } catch (Exception ignored) {}
+        }
+    }
+
+    /**
+     * Maximum number of browsers the pool will launch.
+     */
+    public static int size() {
+        return Math.max(1, ConfigReader.getInt("BROWSER_POOL_SIZE", ConfigReader.getInt("THREADS", 1)));
+    }
+
+    /**
+     * Borrow a browser. Reuses an idle one, launches a new one while the pool
+     * is below its size, otherwise blocks until another test releases one.
+     */
+    public static Lease acquire() {
+        return acquire(-1);
+    }
+
+    /**
+     * Borrow a browser, waiting at most timeoutMs for one to be released.
+     *
+     * @return The lease, or null if none was released in time
+     */
+    public static Lease acquire(long timeoutMs) {
+        Lease lease = idle.poll();
+        if (lease == null) {
+            synchronized (launched) {
+                if (launched.size() < size()) {
+                    lease = launch();
+                    launched.add(lease);
+                    return lease;
+                }
+            }
+            try {
+                lease = timeoutMs < 0 ? idle.take() : idle.poll(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+            }
+            if (lease == null) {
+                return null;
+            }
+        }
+        return ensureConnected(lease);
+    }
+
+    /**
+     * Return a browser to the pool. All contexts created from it must already be closed.
+     */
+    public static void release(Lease lease) {
+        if (lease != null) {
+            idle.offer(lease);
+        }
+    }
+
+    /**
+     * Close every browser launched by the pool. Called once at the end of the suite.
+     */
+    public static void shutdown() {
+        synchronized (launched) {
+            for (Lease lease : launched) {
+                lease.close();
+            }
+            launched.clear();
+            idle.clear();
+        }
+    }
+
+    /**
+     * Replace a browser that crashed or was closed since it was last used.
+     */
+    private static Lease ensureConnected(Lease lease) {
+        if (lease.browser.isConnected()) {
+            return lease;
+        }
+        synchronized (launched) {
+            lease.close();
+            launched.remove(lease);
+            Lease fresh = launch();
+            launched.add(fresh);
+            return fresh;
+        }
+    }
+
+    /**
+     * Options every pooled browser is launched with (also used by the benchmarks,
+     * so they measure the same browser as the suite).
+     */
+    public static BrowserType.LaunchOptions launchOptions() {
+        return new BrowserType.LaunchOptions()
+                .setHeadless(Boolean.parseBoolean(ConfigReader.get("HEADLESS")))
+                .setChannel("chrome")
+                .setArgs(Arrays.asList("--disable-dev-shm-usage", "--no-sandbox", "--start-maximized"));
+    }
+
+    private static Lease launch() {
+        Playwright playwright = Playwright.create();
+        Browser browser = playwright.chromium().launch(launchOptions());
+        return new Lease(playwright, browser);
+    }
+}
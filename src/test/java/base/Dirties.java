@@ -0,0 +1,35 @@
+package base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares what a test leaves changed, so a reused context is reset only as far as needed.
+ *
+ *   PAGE     The page is no longer at the start state: the next test navigates again
+ *   STORAGE  sessionStorage holds test data (e.g. wizard form data): it is cleared
+ *   CONTEXT  Cookies, login or routes changed: the context is closed, not reused
+ *
+ * Tests without @Dirties are assumed to dirty PAGE only. A read-only test
+ * declares @Dirties({}) and the next test with the same StartState continues
+ * on the page exactly as it was left. @Dirties alone means CONTEXT.
+ *
+ * Usage:
+ *   @Test
+ *   @Dirties({})
+ *   public void verifyHomePageElements() { ... }
+ *
+ *   @Test
+ *   @Dirties({Dirties.Scope.PAGE, Dirties.Scope.STORAGE})
+ *   public void verifyBednetDraftCampaignFlow() { ... }
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Dirties {
+
+    enum Scope { PAGE, STORAGE, CONTEXT }
+
+    Scope[] value() default {Scope.CONTEXT};
+}
@@ -0,0 +1,267 @@
+package base;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.Cookie;
+
+import pages.HomePage;
+import pages.LoginPage;
+import utils.ConfigReader;
+
+/**
+ * Caches the authenticated browser storage state so the real login form is
+ * only filled once per (BASE_URL, USERNAME, TENANT) instead of once per test.
+ *
+ * The first test logs in through LoginPage and the resulting
+ * BrowserContext.storageState() is written to the .auth directory. Later
+ * contexts are created from that file and land on the home page directly.
+ * If the stored token has expired, the app redirects to the login page; this
+ * is detected and the login is performed again, refreshing the file.
+ *
+ * Logging in through the UI is single-flight: one test at a time, and a test
+ * that waited takes over the state another test saved meanwhile instead of
+ * filling the form again. A stored state is only deleted once it has been seen
+ * to fail inside that lock, so a fresh file is never removed by a test whose
+ * context was created before it existed.
+ *
+ * Config (.env):
+ *   LOGIN_CACHE=true    Enable the cache (default true)
+ *   TENANT=Mz           Tenant to pick on the login page (default: first option)
+ *
+ * Usage (see BaseTest.setup()):
+ *   Browser.NewContextOptions options = new Browser.NewContextOptions();
+ *   LoginCache.Seed seed = LoginCache.configure(options);
+ *   context = browser.newContext(options);
+ *   page.navigate(baseUrl);
+ *   HomePage home = LoginCache.login(context, page, seed);
+ */
+public final class LoginCache {
+
+    private static final String AUTH_DIR = ".auth";
+
+    // Matches either the logged-in header or the login button, whichever renders first
+    private static final String LANDING_SELECTOR = ".digit-topbar-ulb, #formcomposer-submit-action";
+
+    private LoginCache() {
+    }
+
+    /**
+     * The stored state a context was created from (see configure()).
+     */
+    public static final class Seed {
+
+        private final long savedAt;
+
+        private Seed(long savedAt) {
+            this.savedAt = savedAt;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("LOGIN_CACHE", true);
+    }
+
+    /**
+     * Stored state for the configured user, or null if the cache is disabled
+     * or nobody has logged in yet.
+     */
+    public static Path cachedState() {
+        if (!isEnabled()) {
+            return null;
+        }
+        Path path = statePath();
+        return Files.exists(path) ? path : null;
+    }
+
+    /**
+     * Start a new context from the stored state, if there is one.
+     *
+     * @return The state the context is seeded with, or null; pass it to login()
+     */
+    public static Seed configure(Browser.NewContextOptions options) {
+        Path state = cachedState();
+        if (state == null) {
+            return null;
+        }
+        options.setStorageStatePath(state);
+        return new Seed(savedAt(state));
+    }
+
+    /**
+     * Make sure the page is logged in and return the HomePage.
+     * The page must already be navigated to BASE_URL.
+     *
+     * @param context Context the page belongs to (its state is saved after login)
+     * @param page    Page showing either the login form or the home page
+     * @param seed    What configure() returned for the context
+     * @return HomePage object
+     */
+    public static HomePage login(BrowserContext context, Page page, Seed seed) {
+        if (isAuthenticated(page)) {
+            // Seeded state still valid, or a reused context that is already logged in
+            return new HomePage(page);
+        }
+        if (!isEnabled()) {
+            return verified(loginThroughUi(page));
+        }
+
+        synchronized (LoginCache.class) {
+            Path state = cachedState();
+            if (state != null && (seed == null || savedAt(state) > seed.savedAt)) {
+                // Another test logged in after this context was created: use its state
+                if (applyState(context, page, state)) {
+                    return new HomePage(page);
+                }
+            }
+            if (state != null) {
+                // Failed on this page (token expired): it is stale for every test
+                invalidate();
+            }
+            HomePage home = verified(loginThroughUi(page));
+            save(context);
+            return home;
+        }
+    }
+
+    /**
+     * Delete the stored state for the configured user.
+     */
+    public static void invalidate() {
+        try {
+            Files.deleteIfExists(statePath());
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Cache key identifying which login the stored state belongs to.
+     */
+    public static String key() {
+        return ConfigReader.get("BASE_URL") + "|" + ConfigReader.get("USERNAME") + "|"
+                + ConfigReader.get("TENANT", "");
+    }
+
+    private static HomePage loginThroughUi(Page page) {
+        LoginPage loginPage = new LoginPage(page);
+        String username = ConfigReader.get("USERNAME");
+        String password = ConfigReader.get("PASSWORD");
+        String tenant = ConfigReader.get("TENANT");
+        if (tenant == null || tenant.isEmpty()) {
+            return loginPage.login(username, password);
+        }
+        return loginPage.login(username, password, tenant);
+    }
+
+    private static HomePage verified(HomePage home) {
+        if (!home.isHomeDisplayed()) {
+            throw new IllegalStateException("Login as " + ConfigReader.get("USERNAME")
+                    + " did not reach the home page (" + home.getCurrentUrl() + ")");
+        }
+        return home;
+    }
+
+    /**
+     * Load a stored state into an existing context (cookies, and local storage of the
+     * page's origin) and reload the page.
+     *
+     * @return true if the page is logged in afterwards
+     */
+    private static boolean applyState(BrowserContext context, Page page, Path state) {
+        try {
+            JsonObject json = JsonParser.parseString(
+                    new String(Files.readAllBytes(state), StandardCharsets.UTF_8)).getAsJsonObject();
+            List<Cookie> cookies = new ArrayList<>();
+            for (JsonElement element : json.getAsJsonArray("cookies")) {
+                JsonObject cookie = element.getAsJsonObject();
+                cookies.add(new Cookie(cookie.get("name").getAsString(), cookie.get("value").getAsString())
+                        .setDomain(cookie.get("domain").getAsString())
+                        .setPath(cookie.get("path").getAsString()));
+            }
+            if (!cookies.isEmpty()) {
+                context.addCookies(cookies);
+            }
+            URI url = URI.create(page.url());
+            String origin = url.getScheme() + "://" + url.getAuthority();
+            for (JsonElement element : json.getAsJsonArray("origins")) {
+                JsonObject entry = element.getAsJsonObject();
+                if (!origin.equals(entry.get("origin").getAsString())) {
+                    continue;
+                }
+                List<Map<String, String>> items = new ArrayList<>();
+                for (JsonElement item : entry.getAsJsonArray("localStorage")) {
+                    items.add(Map.of("name", item.getAsJsonObject().get("name").getAsString(),
+                            "value", item.getAsJsonObject().get("value").getAsString()));
+                }
+                page.evaluate("items => items.forEach(i => localStorage.setItem(i.name, i.value))", items);
+            }
+            page.reload();
+            return isAuthenticated(page);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not apply login state: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static long savedAt(Path state) {
+        try {
+            return Files.getLastModifiedTime(state).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isAuthenticated(Page page) {
+        page.locator(LANDING_SELECTOR).first().waitFor();
+        return !page.url().contains("/login") && !new LoginPage(page).isLoginPageDisplayed();
+    }
+
+    /**
+     * Write the state to a temp file and move it into place, so tests running
+     * in parallel never read a half-written file.
+     */
+    private static void save(BrowserContext context) {
+        try {
+            Path target = statePath();
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), "state", ".tmp");
+            Files.write(tmp, context.storageState().getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not save login state: " + e.getMessage());
+        }
+    }
+
+    private static Path statePath() {
+        return Paths.get(AUTH_DIR, "state-" + hash(key()) + ".json");
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+}
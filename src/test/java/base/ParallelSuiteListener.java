@@ -0,0 +1,40 @@
+package base;
+
+import java.util.List;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import utils.ConfigReader;
+
+/**
+ * Applies the THREADS setting from .env to every suite before it runs,
+ * so the same suite XML can be used on machines with different core counts.
+ *
+ * The parallel mode itself comes from the suite XML
+ * (testng-parallel-methods.xml / testng-parallel-classes.xml);
+ * suites declared with parallel="none" are left alone.
+ *
+ * Config (.env):
+ *   THREADS=8    Worker threads for parallel suites
+ *
+ * Register in the suite XML:
+ *   <listeners>
+ *       <listener class-name="base.ParallelSuiteListener"/>
+ *   </listeners>
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = ConfigReader.getInt("THREADS", 0);
+        if (threads <= 0) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() != null && suite.getParallel() != XmlSuite.ParallelMode.NONE) {
+                suite.setThreadCount(threads);
+            }
+        }
+    }
+}
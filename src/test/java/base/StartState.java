@@ -0,0 +1,30 @@
+package base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The application state a test starts from, once its @BeforeMethods have run.
+ *
+ * StateScheduler runs tests with the same start state one after another, and
+ * with CONTEXT_REUSE the next test continues on the previous test's context.
+ * Use "/" to express that a state is reached through another, so related
+ * states are scheduled next to each other ("campaign/wizard" before
+ * "campaign/wizard/boundaries"). Tests without the annotation start at "home".
+ *
+ * Usage:
+ *   @StartState("campaign/wizard/boundaries")
+ *   public class BoundarySelectionTest extends BednetDraftCampaignTest { ... }
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface StartState {
+
+    String HOME = "home";
+
+    String value();
+}
@@ -0,0 +1,56 @@
+package base;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import utils.ConfigReader;
+
+/**
+ * Orders tests so that tests with the same @StartState run consecutively.
+ *
+ * States are sorted by name, which keeps a state next to the states reached
+ * through it ("campaign/wizard" then "campaign/wizard/boundaries"); tests keep
+ * their original order within a state. Together with CONTEXT_REUSE in BaseTest
+ * the second and later tests of a state continue on the same context instead
+ * of logging in and walking the shared prefix again. TestNG still honours
+ * dependsOnMethods/priority constraints on top of this order.
+ *
+ * Config (.env):
+ *   SCHEDULE_BY_STATE=false    Keep TestNG's order (default true)
+ *
+ * Register in the suite XML:
+ *   <listeners>
+ *       <listener class-name="base.StateScheduler"/>
+ *   </listeners>
+ */
+public class StateScheduler implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.getBoolean("SCHEDULE_BY_STATE", true)) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // List.sort is stable, so the original order is kept within a state
+        ordered.sort(Comparator.comparing(m -> startStateOf(
+                m.getMethod().getRealClass(), m.getMethod().getConstructorOrMethod().getMethod())));
+        return ordered;
+    }
+
+    /**
+     * Start state of a test method: method annotation, then class annotation, then "home".
+     */
+    static String startStateOf(Class<?> testClass, Method method) {
+        StartState state = method == null ? null : method.getAnnotation(StartState.class);
+        if (state == null) {
+            state = testClass.getAnnotation(StartState.class);
+        }
+        return state != null ? state.value() : StartState.HOME;
+    }
+}
@@ -0,0 +1,50 @@
+package base;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+import pages.HomePage;
+import utils.FormHelper;
+import utils.NavigationHelper;
+import utils.ScreenshotHelper;
+import utils.WaitHelper;
+
+/**
+ * Playwright objects and helpers owned by one running test.
+ *
+ * BaseTest keeps one session per thread, so tests running in parallel never
+ * touch each other's BrowserContext or Page.
+ */
+final class TestSession {
+
+    BrowserPool.Lease lease;
+    BrowserContext context;
+    Page page;
+
+    NavigationHelper nav;
+    FormHelper form;
+    WaitHelper waits;
+    ScreenshotHelper screenshot;
+    HomePage homePage;
+
+    // Stored login the context was created from (see LoginCache.configure)
+    LoginCache.Seed loginSeed;
+
+    // Test currently using the session; changes when the context is reused
+    volatile String testName;
+
+    // Context reuse (see BaseTest): start state + blocking profile, and whether the page is still there
+    String reuseKey;
+    boolean atStartState;
+    long parkedAt;
+
+    Playwright playwright() {
+        return lease.playwright();
+    }
+
+    Browser browser() {
+        return lease.browser();
+    }
+}
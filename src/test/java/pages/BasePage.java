@@ -2,7 +2,12 @@ package pages;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import java.util.function.Supplier;
 import utils.FormHelper;
+import utils.LocatorCache;
+import utils.NetworkWaiter;
+import utils.StepTimings;
+import utils.WaitHelper;
 
 /**
  * Base class for all Page Objects.
@@ -15,6 +20,9 @@ public abstract class BasePage {
 
     protected final Page page;
     protected final FormHelper form;
+    protected final WaitHelper waits;
+    protected final NetworkWaiter network;
+    protected final LocatorCache locators;
 
     // Common header/navigation locators (shared across pages)
     private final String homeButton = ".digit-topbar-home";
@@ -23,6 +31,18 @@ public abstract class BasePage {
     public BasePage(Page page) {
         this.page = page;
         this.form = new FormHelper(page);
+        this.waits = new WaitHelper(page);
+        this.network = NetworkWaiter.of(page);
+        this.locators = LocatorCache.of(page);
+    }
+
+    /**
+     * Cached Locator for a selector (see LocatorCache). Use this instead of page.locator().
+     *
+     * @param selector Any Playwright selector
+     */
+    protected Locator locator(String selector) {
+        return locators.get(selector);
     }
 
     // ==================== NAVIGATION ====================
@@ -58,8 +78,9 @@ public abstract class BasePage {
      * Click the back button (if available on page).
      */
     public void clickBackButton() {
-        if (page.locator(backButton).isVisible()) {
-            page.locator(backButton).click();
+        Locator back = locator(backButton);
+        if (back.isVisible()) {
+            back.click();
         } else {
             goBack();
         }
@@ -71,8 +92,9 @@ public abstract class BasePage {
      * @return HomePage object
      */
     public HomePage goToHome() {
-        if (page.locator(homeButton).isVisible()) {
-            page.locator(homeButton).click();
+        Locator home = locator(homeButton);
+        if (home.isVisible()) {
+            home.click();
         } else {
             goBack();
         }
@@ -80,12 +102,15 @@ public abstract class BasePage {
     }
 
     // ==================== WAIT HELPERS ====================
+    // Prefer these (or the waits helper) over fixed sleeps; they return as
+    // soon as the condition holds and fail with a descriptive WaitTimeoutException.
 
     /**
-     * Wait for page to finish loading.
+     * Wait for page to finish loading: no backend call in flight for a short quiet period.
+     * SPA route changes never fire a load event, so the document load state is not used.
      */
     protected void waitForPageLoad() {
-        page.waitForLoadState();
+        network.waitForIdle();
     }
 
     /**
@@ -94,7 +119,7 @@ public abstract class BasePage {
      * @param selector CSS selector
      */
     protected void waitForVisible(String selector) {
-        page.locator(selector).waitFor();
+        waits.forVisible(selector);
     }
 
     /**
@@ -103,7 +128,7 @@ public abstract class BasePage {
      * @param locator Playwright Locator
      */
     protected void waitForVisible(Locator locator) {
-        locator.waitFor();
+        waits.forVisible(locator);
     }
 
     /**
@@ -112,17 +137,51 @@ public abstract class BasePage {
      * @param selector CSS selector
      */
     protected void waitForHidden(String selector) {
-        page.locator(selector).waitFor(new Locator.WaitForOptions().setState(
-                com.microsoft.playwright.options.WaitForSelectorState.HIDDEN));
+        waits.forHidden(selector);
     }
 
     /**
-     * Wait specified milliseconds.
+     * Wait for element to disappear.
+     *
+     * @param locator Playwright Locator
+     */
+    protected void waitForHidden(Locator locator) {
+        waits.forHidden(locator);
+    }
+
+    /**
+     * Wait until no loading spinner is visible.
+     */
+    protected void waitForSpinnerGone() {
+        waits.forSpinnerGone();
+    }
+
+    /**
+     * Wait specified milliseconds. Last resort: recorded in the sleep-budget report.
      *
      * @param ms Milliseconds to wait
      */
     protected void wait(int ms) {
-        page.waitForTimeout(ms);
+        waits.sleep(ms);
+    }
+
+    // ==================== TIMING ====================
+
+    /**
+     * Run a page action and record its duration in the StepTimings report.
+     *
+     * @param action Action name (e.g. "login")
+     * @param body   The action
+     */
+    protected void timed(String action, Runnable body) {
+        StepTimings.time(getClass().getSimpleName(), action, null, body);
+    }
+
+    /**
+     * Run a page action that returns a value and record its duration.
+     */
+    protected <T> T timed(String action, Supplier<T> body) {
+        return StepTimings.time(getClass().getSimpleName(), action, null, body);
     }
 
     // ==================== VERIFICATION ====================
@@ -162,6 +221,6 @@ public abstract class BasePage {
      * @return true if visible
      */
     public boolean isVisible(String selector) {
-        return page.locator(selector).isVisible();
+        return locator(selector).isVisible();
     }
 }
@@ -4,77 +4,104 @@ import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import java.time.LocalDate;
 
-public class BednetDraftCampaignPage {
+import pages.components.DatePicker;
+import pages.components.DigitDropdown;
 
-    private Page page;
+public class BednetDraftCampaignPage extends BasePage {
 
     // Campaign template step elements
     private Locator campaignTypeDropdown;
-    private Locator bednetDropdown;
+    private DigitDropdown campaignType;
     private Locator nextButton;
     private Locator campaignName;
     private Locator startDateInput;
     private Locator endDateInput;
 
+    // Calendar popups
+    private DatePicker startDate;
+    private DatePicker endDate;
+
     public BednetDraftCampaignPage(Page page) {
-    
-        this.page = page;
+        super(page);
         // this.campaignTypeDropdown = page.getByRole(AriaRole.BUTTON,
         //         new Page.GetByRoleOptions().setName("Select an option"));
-        this.campaignTypeDropdown=page.locator("#campaign-create-campaign-standalone-hcm_select_campaign_type-field");
-        this.bednetDropdown = page.locator("div.digit-dropdown-item").nth(1);
-        this.nextButton = page.locator("#campaign-create-campaign-formcomposer-setup-campaign-primary-submit-btn");
-        this.campaignName = page.locator("input[name='CampaignName']");
+        this.campaignTypeDropdown=locator("#campaign-create-campaign-standalone-hcm_select_campaign_type-field");
+        this.campaignType = new DigitDropdown(page, campaignTypeDropdown).forceClick();
+        this.nextButton = locator("#campaign-create-campaign-formcomposer-setup-campaign-primary-submit-btn");
+        this.campaignName = locator("input[name='CampaignName']");
         // this.startDateInput = page.locator("input[placeholder='Start date']");
-        this.startDateInput=page.locator("input.digit-employeeCard-input").nth(0);
-        this.endDateInput=page.locator("input.digit-employeeCard-input").nth(1);
+        this.startDateInput=locator("input.digit-employeeCard-input").nth(0);
+        this.endDateInput=locator("input.digit-employeeCard-input").nth(1);
         // this.endDateInput = page.locator("input[placeholder='End date']");
+        this.startDate = new DatePicker(page, startDateInput);
+        this.endDate = new DatePicker(page, endDateInput);
+    }
+
+    // --- Waits ---
+
+    public void waitUntilLoaded() {
+        waitForSpinnerGone();
+        waitForVisible(campaignTypeDropdown);
+    }
+
+    public void waitForCampaignNameStep() {
+        waitForSpinnerGone();
+        waitForVisible(campaignName);
+    }
+
+    public void waitForDatesStep() {
+        waitForSpinnerGone();
+        waitForVisible(startDateInput);
     }
 
     // --- Actions ---
 
     public void clickCampaignTypeDropdown() {
-        campaignTypeDropdown.click(new Locator.ClickOptions().setForce(true));
-        page.waitForTimeout(1000);
+        timed("clickCampaignTypeDropdown", () -> campaignType.open());
     }
 
     public void clickBednetDropdown() {
-        bednetDropdown.click(new Locator.ClickOptions().setForce(true));
-        page.waitForTimeout(1000);
+        // Bednet distribution is the second campaign type
+        timed("clickBednetDropdown", () -> campaignType.selectByIndex(1));
+    }
+
+    /**
+     * Pick a campaign type by its label (e.g. "Bednet Distribution").
+     */
+    public void selectCampaignType(String type) {
+        timed("selectCampaignType", () -> campaignType.select(type));
     }
 
     public void clickNext() {
-        nextButton.click();
+        timed("clickNext", () -> {
+            network.runAndWaitForIdle(() -> nextButton.click());
+            waitForSpinnerGone();
+        });
     }
 
     public void clearAndEnterDynamicCampaignName() {
-        campaignName.clear();
-        String dynamicName = "BednetCampaign" + java.time.LocalDateTime.now()
-                .format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        campaignName.fill(dynamicName);
+        timed("clearAndEnterDynamicCampaignName", () -> {
+            campaignName.clear();
+            String dynamicName = "BednetCampaign" + java.time.LocalDateTime.now()
+                    .format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+            campaignName.fill(dynamicName);
+        });
     }
 
     public void fillStartDate() {
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        startDateInput.click();
-        page.waitForTimeout(500);
-        // Pick the day from the calendar popup
-        page.locator(".react-datepicker__day--0" + String.format("%02d", tomorrow.getDayOfMonth())
-                + ":not(.react-datepicker__day--outside-month)").first().click();
-        page.waitForTimeout(500);
+        fillStartDate(LocalDate.now().plusDays(1));
+    }
+
+    public void fillStartDate(LocalDate date) {
+        timed("fillStartDate", () -> startDate.set(date));
     }
 
     public void fillEndDate() {
-        LocalDate oneMonthLater = LocalDate.now().plusMonths(1);
-        endDateInput.click();
-        page.waitForTimeout(500);
-        // Navigate to next month in calendar
-        page.locator(".react-datepicker__navigation--next").click();
-        page.waitForTimeout(500);
-        // Pick the day from the calendar popup
-        page.locator(".react-datepicker__day--0" + String.format("%02d", oneMonthLater.getDayOfMonth())
-                + ":not(.react-datepicker__day--outside-month)").first().click();
-        page.waitForTimeout(500);
+        fillEndDate(LocalDate.now().plusMonths(1));
+    }
+
+    public void fillEndDate(LocalDate date) {
+        timed("fillEndDate", () -> endDate.set(date));
     }
 
     public void fillStartAndEndDates() {
@@ -87,18 +114,10 @@ public class BednetDraftCampaignPage {
     }
 
     public String getStartDateValue() {
-        String value = startDateInput.inputValue();
-        if (value.isEmpty()) {
-            value = (String) startDateInput.evaluate("el => el.value");
-        }
-        return value;
+        return startDate.value();
     }
 
     public String getEndDateValue() {
-        String value = endDateInput.inputValue();
-        if (value.isEmpty()) {
-            value = (String) endDateInput.evaluate("el => el.value");
-        }
-        return value;
+        return endDate.value();
     }
-}
\ No newline at end of file
+}
@@ -1,64 +1,282 @@
 package pages;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 
+/**
+ * Page Object for the campaign boundary selection step.
+ *
+ * The step shows one multi-select dropdown per boundary level. A level lists
+ * the children of the boundaries selected in the level above and only appears
+ * once that selection is committed (popup closed) and its children are loaded.
+ * The number of levels is not fixed: it is discovered while walking down.
+ *
+ * Usage:
+ *   BoundarySelectionPage boundaries = new BoundarySelectionPage(page);
+ *   boundaries.clickDefineTarget();
+ *
+ *   // One branch, by the names shown in the dropdowns
+ *   boundaries.selectPath("Mozambique/Niassa/Lichinga");
+ *
+ *   // Every child of a node
+ *   boundaries.selectAllChildren("Mozambique/Niassa");
+ *
+ *   // First option on every level until the leaf level
+ *   boundaries.selectFirstPathToLeaf();
+ */
+public class BoundarySelectionPage extends BasePage {
 
-public class BoundarySelectionPage {
+    private static final String LEVEL = ".selecting-boundaries-dropdown";
+    private static final String LEVEL_TRIGGER = ".digit-multiselectdropdown-master";
+    private static final String OPTION = ".digit-multiselectdropdown-options .digit-multiselectdropdown-item";
 
-    private Page page;
+    // Reads every option of an open level in one call: [text, checked]
+    private static final String READ_OPTIONS =
+            "items => items.map(i => [i.innerText.trim(), !!(i.querySelector('input') || {}).checked])";
 
     // Campaign template step elements
     private Locator DefineTarget;
-    private Locator firstlevel;
-    private Locator secondlevel;
-    private Locator thirdlevel;
-    private Locator fourthlevel;
+    private Locator levels;
     private Locator outside;
-
+    private Locator nextButton;
 
     public BoundarySelectionPage(Page page) {
-    
-        this.page = page;
-        this.DefineTarget = page.locator("#campaign-details-page-button-selecting-boundaries");
-        this.firstlevel = page.locator(".selecting-boundaries-dropdown input").nth(0);
-        this.secondlevel = page.locator(".selecting-boundaries-dropdown input").nth(1);
-        this.thirdlevel = page.locator(".selecting-boundaries-dropdown input").nth(2);
-        this.fourthlevel = page.locator(".selecting-boundaries-dropdown input").nth(3);
-        this.outside=page.locator(".boundary-selection-label");
+        super(page);
+        this.DefineTarget = locator("#campaign-details-page-button-selecting-boundaries");
+        this.levels = locator(LEVEL);
+        this.outside = locator(".boundary-selection-label");
+        this.nextButton = locator("#campaign-create-campaign-formcomposer-setup-campaign-primary-submit-btn");
+    }
+
+    // --- Waits ---
+
+    public void waitUntilLoaded() {
+        waitForSpinnerGone();
+        waitForVisible(levels.first());
     }
 
     // --- Actions ---
 
     public void clickDefineTarget() {
-        DefineTarget.click();
-        page.waitForTimeout(1000);
+        timed("clickDefineTarget", () -> {
+            DefineTarget.click();
+            waitUntilLoaded();
+        });
     }
 
-     public void clickfirstlevel() {
-    
-        firstlevel.first().click();
-        page.waitForTimeout(1000);
+    public void clickfirstlevel() {
+        timed("clickfirstlevel", () -> selectFirst(0));
     }
 
     public void clicksecondlevel() {
-     
-        secondlevel.first().click();
-        outside.click();
-        page.waitForTimeout(1000);
+        timed("clicksecondlevel", () -> selectFirst(1));
     }
 
     public void clickthirdlevel() {
-   
-        thirdlevel.first().click();
-        outside.click();
-        page.waitForTimeout(1000);
+        timed("clickthirdlevel", () -> selectFirst(2));
     }
 
     public void clickfourthlevel() {
+        timed("clickfourthlevel", () -> selectFirst(3));
+    }
+
+    // ==================== HIERARCHY WALKER ====================
+
+    /**
+     * Select one boundary per level along a path of boundary names, e.g.
+     * "Mozambique/Niassa/Lichinga". Each level is opened only when reached.
+     */
+    public BoundarySelectionPage selectPath(String path) {
+        timed("selectPath", () -> {
+            List<String> names = split(path);
+            for (int level = 0; level < names.size(); level++) {
+                select(level, List.of(names.get(level)));
+                if (level + 1 < names.size()) {
+                    waitForLevel(level + 1);
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Select the path to a node and then every boundary on the level below it.
+     */
+    public BoundarySelectionPage selectAllChildren(String path) {
+        timed("selectAllChildren", () -> {
+            selectPath(path);
+            int childLevel = split(path).size();
+            waitForLevel(childLevel);
+            selectAll(childLevel);
+        });
+        return this;
+    }
+
+    /**
+     * Select the first boundary on each level until a level brings no children.
+     *
+     * @return Number of levels walked
+     */
+    public int selectFirstPathToLeaf() {
+        return timed("selectFirstPathToLeaf", () -> {
+            int level = 0;
+            while (level < levelCount()) {
+                selectFirst(level);
+                level++;
+            }
+            return level;
+        });
+    }
+
+    /**
+     * Select boundaries on one level by name (already selected ones are kept).
+     */
+    public void select(int level, Collection<String> names) {
+        List<String> options = options(level);
+        List<Integer> indexes = new ArrayList<>();
+        for (String name : names) {
+            int index = options.indexOf(name.trim());
+            if (index < 0) {
+                throw new IllegalArgumentException("Boundary '" + name + "' not on level " + level + " ("
+                        + levelName(level) + "), options: " + options);
+            }
+            indexes.add(index);
+        }
+        selectByIndex(level, indexes);
+    }
+
+    /**
+     * Select boundaries on one level by position and commit the selection.
+     */
+    public void selectByIndex(int level, List<Integer> indexes) {
+        openLevel(level);
+        List<Boolean> checked = checkedStates(level);
+        for (int index : indexes) {
+            if (!checked.get(index)) {
+                toggle(level, index);
+            }
+        }
+        commit();
+    }
+
+    public void selectFirst(int level) {
+        selectByIndex(level, List.of(0));
+    }
+
+    /**
+     * Select every boundary shown on a level.
+     */
+    public void selectAll(int level) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < options(level).size(); i++) {
+            indexes.add(i);
+        }
+        selectByIndex(level, indexes);
+    }
+
+    // ==================== LOW-LEVEL STEPS ====================
+    // Used by the walker above and by the stress test to time single selections.
+
+    /**
+     * Open a level's popup (closing any other) and wait for its options.
+     */
+    public void openLevel(int level) {
+        Locator options = level(level).locator(OPTION);
+        if (!options.first().isVisible()) {
+            level(level).locator(LEVEL_TRIGGER).click();
+        }
+        waitForVisible(options.first());
+    }
+
+    /**
+     * Click one option of an open level and wait until its checkbox reflects the click.
+     */
+    public void toggle(int level, int index) {
+        Locator box = level(level).locator(OPTION).nth(index).locator("input");
+        boolean before = box.isChecked();
+        box.click();
+        waits.until("boundary option " + index + " on level " + level + " toggled", () -> box.isChecked() != before);
+    }
+
+    /**
+     * Close the open popup, which commits the selection, and wait for the children to load.
+     */
+    public void commit() {
+        network.runAndWaitForIdle(() -> outside.click());
+        waitForSpinnerGone();
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Number of levels currently shown (grows as selections are committed).
+     */
+    public int levelCount() {
+        return levels.count();
+    }
+
+    public String levelName(int level) {
+        return level(level).locator("label").first().innerText().trim();
+    }
+
+    /**
+     * Boundary names on a level (opens its popup).
+     */
+    public List<String> options(int level) {
+        openLevel(level);
+        List<String> names = new ArrayList<>();
+        for (List<Object> option : readOptions(level)) {
+            names.add((String) option.get(0));
+        }
+        return names;
+    }
+
+    /**
+     * Selected state of every option on a level, in option order (the level must be open).
+     */
+    public List<Boolean> checkedStates(int level) {
+        List<Boolean> states = new ArrayList<>();
+        for (List<Object> option : readOptions(level)) {
+            states.add((Boolean) option.get(1));
+        }
+        return states;
+    }
+
+    public boolean isNextEnabled() {
+        return nextButton.isEnabled();
+    }
+
+    public Locator nextButton() {
+        return nextButton;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private Locator level(int level) {
+        return levels.nth(level);
+    }
+
+    private void waitForLevel(int level) {
+        waitForVisible(level(level));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> readOptions(int level) {
+        return (List<List<Object>>) level(level).locator(OPTION).evaluateAll(READ_OPTIONS);
+    }
 
-        fourthlevel.first().click();
-        outside.click();
-        page.waitForTimeout(1000);
+    private static List<String> split(String path) {
+        List<String> names = new ArrayList<>();
+        for (String name : Arrays.asList(path.split("/"))) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
     }
-}
\ No newline at end of file
+}
@@ -3,32 +3,30 @@ package pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 
-public class CampaignLandingPage {
-
-    private Page page;
+public class CampaignLandingPage extends BasePage {
 
     private Locator createCampaignLink;
     private Locator scratchCardTitle;
     private Locator continueButton;
 
     public CampaignLandingPage(Page page) {
-        this.page = page;
-        this.createCampaignLink = page.locator(".digit-button-label").nth(2);
-        this.scratchCardTitle = page.locator("#campaign-home-card-campaign-create-methods-campaign-create-from-scratch");
-        this.continueButton = page.locator("#campaign-campaign-home-standalone-create-new-campaign-from-scratch-btn");
+        super(page);
+        this.createCampaignLink = locator(".digit-button-label").nth(2);
+        this.scratchCardTitle = locator("#campaign-home-card-campaign-create-methods-campaign-create-from-scratch");
+        this.continueButton = locator("#campaign-campaign-home-standalone-create-new-campaign-from-scratch-btn");
     }
 
     // --- Actions ---
 
     public void clickCreateCampaign() {
-        createCampaignLink.click();
+        timed("clickCreateCampaign", () -> createCampaignLink.click());
     }
 
     public void clickScratchCard() {
-        scratchCardTitle.click();
+        timed("clickScratchCard", () -> scratchCardTitle.click());
     }
 
     public void clickContinue() {
-        continueButton.click();
+        timed("clickContinue", () -> continueButton.click());
     }
-}
\ No newline at end of file
+}
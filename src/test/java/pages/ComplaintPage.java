@@ -1,8 +1,12 @@
 package pages;
 
-import com.microsoft.playwright.Locator;
+import java.time.LocalDate;
+
 import com.microsoft.playwright.Page;
 
+import pages.components.DatePicker;
+import pages.components.DigitDropdown;
+
 /**
  * Page Object for Complaint Form.
  *
@@ -19,13 +23,11 @@ public class ComplaintPage extends BasePage {
 
     // ==================== LOCATORS ====================
     // Dropdowns
-    private final String complaintTypeDropdown = ".digit-dropdown-employee-select-wrap ";
+    private final String complaintTypeDropdown = ".digit-dropdown-employee-select-wrap >> nth=0";
     private final String countryDropdown = ".digit-dropdown-employee-select-wrap >> nth=1";
-    private final String dropdownOption = ".main-option";
 
     // Date Picker
     private final String dateInput = "input[name='ComplaintDate']";
-    private final String todayDate = ".react-datepicker__day--today";
 
     // Radio & Other Fields
     private final String radioButtons = ".digit-radio-btn-checkmark";
@@ -33,8 +35,18 @@ public class ComplaintPage extends BasePage {
     private final String fileInput = "input[type='file']";
     private final String submitButton = ".digit-submit-bar";
 
+    // Backend
+    private final String createComplaintApi = "/pgr-services/v2/request/_create";
+
+    private final DigitDropdown complaintType;
+    private final DigitDropdown country;
+    private final DatePicker complaintDate;
+
     public ComplaintPage(Page page) {
         super(page);
+        this.complaintType = new DigitDropdown(page, locator(complaintTypeDropdown));
+        this.country = new DigitDropdown(page, locator(countryDropdown));
+        this.complaintDate = new DatePicker(page, locator(dateInput));
     }
 
     // ==================== MAIN ACTIONS ====================
@@ -48,11 +60,13 @@ public class ComplaintPage extends BasePage {
      * @return this ComplaintPage for method chaining
      */
     public ComplaintPage fillForm(String complaintType, String country, String description) {
-        selectComplaintType(complaintType);
-        selectTodayDate();
-        selectCountry(country);
-        selectFirstRadioOption();
-        enterDescription(description);
+        timed("fillForm", () -> {
+            selectComplaintType(complaintType);
+            selectTodayDate();
+            selectCountry(country);
+            selectFirstRadioOption();
+            enterDescription(description);
+        });
         return this;
     }
 
@@ -66,11 +80,13 @@ public class ComplaintPage extends BasePage {
      * @return this ComplaintPage for method chaining
      */
     public ComplaintPage fillFormByIndex(int complaintIndex, int countryIndex, int radioIndex, String description) {
-        selectComplaintTypeByIndex(complaintIndex);
-        selectTodayDate();
-        selectCountryByIndex(countryIndex);
-        selectRadioByIndex(radioIndex);
-        enterDescription(description);
+        timed("fillFormByIndex", () -> {
+            selectComplaintTypeByIndex(complaintIndex);
+            selectTodayDate();
+            selectCountryByIndex(countryIndex);
+            selectRadioByIndex(radioIndex);
+            enterDescription(description);
+        });
         return this;
     }
 
@@ -93,11 +109,10 @@ public class ComplaintPage extends BasePage {
     }
 
     /**
-     * Submit the complaint form.
+     * Submit the complaint form and wait for the create API to respond.
      */
     public void submit() {
-        form.click(submitButton);
-        waitForPageLoad();
+        timed("submit", () -> network.waitForResponse(createComplaintApi, () -> form.click(submitButton)));
     }
 
     // ==================== INDIVIDUAL FIELD METHODS ====================
@@ -106,8 +121,7 @@ public class ComplaintPage extends BasePage {
      * Select complaint type by visible text.
      */
     public ComplaintPage selectComplaintType(String complaintType) {
-        form.click(complaintTypeDropdown);
-        page.getByText(complaintType).click();
+        timed("selectComplaintType", () -> this.complaintType.select(complaintType));
         return this;
     }
 
@@ -115,8 +129,7 @@ public class ComplaintPage extends BasePage {
      * Select complaint type by index (0 = first option).
      */
     public ComplaintPage selectComplaintTypeByIndex(int index) {
-        form.click(complaintTypeDropdown);
-        page.locator(dropdownOption).nth(index).click();
+        timed("selectComplaintTypeByIndex", () -> complaintType.selectByIndex(index));
         return this;
     }
 
@@ -124,8 +137,7 @@ public class ComplaintPage extends BasePage {
      * Select country by visible text.
      */
     public ComplaintPage selectCountry(String country) {
-        form.click(countryDropdown);
-        page.getByText(country).click();
+        timed("selectCountry", () -> this.country.select(country));
         return this;
     }
 
@@ -133,8 +145,7 @@ public class ComplaintPage extends BasePage {
      * Select country by index (0 = first option).
      */
     public ComplaintPage selectCountryByIndex(int index) {
-        form.click(countryDropdown);
-        page.locator(dropdownOption).nth(index).click();
+        timed("selectCountryByIndex", () -> country.selectByIndex(index));
         return this;
     }
 
@@ -142,22 +153,24 @@ public class ComplaintPage extends BasePage {
      * Select today's date from the date picker.
      */
     public ComplaintPage selectTodayDate() {
-        form.click(dateInput);
-        form.click(todayDate);
+        timed("selectTodayDate", () -> complaintDate.selectToday());
         return this;
     }
 
     /**
-     * Select a specific day from the date picker.
+     * Select a day of the current month from the date picker.
      *
      * @param day Day number (1-31)
      */
     public ComplaintPage selectDate(int day) {
-        form.click(dateInput);
-        page.locator(".react-datepicker__day:not(.react-datepicker__day--outside-month)")
-                .getByText(String.valueOf(day), new Locator.GetByTextOptions().setExact(true))
-                .first()
-                .click();
+        return selectDate(LocalDate.now().withDayOfMonth(day));
+    }
+
+    /**
+     * Select any date; the calendar moves to the right month first.
+     */
+    public ComplaintPage selectDate(LocalDate date) {
+        timed("selectDate", () -> complaintDate.set(date));
         return this;
     }
 
@@ -165,7 +178,7 @@ public class ComplaintPage extends BasePage {
      * Select first radio button option.
      */
     public ComplaintPage selectFirstRadioOption() {
-        page.locator(radioButtons).first().click();
+        locator(radioButtons).first().click();
         return this;
     }
 
@@ -173,7 +186,7 @@ public class ComplaintPage extends BasePage {
      * Select radio button by index (0 = first option).
      */
     public ComplaintPage selectRadioByIndex(int index) {
-        page.locator(radioButtons).nth(index).click();
+        locator(radioButtons).nth(index).click();
         return this;
     }
 
@@ -201,6 +214,6 @@ public class ComplaintPage extends BasePage {
      * Check if complaint form is displayed.
      */
     public boolean isFormDisplayed() {
-        return page.locator(complaintTypeDropdown).isVisible();
+        return locator(complaintTypeDropdown).isVisible();
     }
 }
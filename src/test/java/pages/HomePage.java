@@ -26,11 +26,11 @@ public class HomePage extends BasePage {
 
     public HomePage(Page page) {
         super(page);
-        this.homeElement = page.locator(".digit-topbar-ulb");
-        this.createComplaintBtn = page.locator("h2.digit-button-label:has-text('Create Complaint')");
-        this.searchComplaintBtn = page.locator("h2.digit-button-label:has-text('Search Complaint')");
-        this.createUserBtn = page.locator("h2.digit-button-label:has-text('Create User')");
-        this.searchUserBtn = page.locator("h2.digit-button-label:has-text('Search User')");
+        this.homeElement = locator(".digit-topbar-ulb");
+        this.createComplaintBtn = locator("h2.digit-button-label:has-text('Create Complaint')");
+        this.searchComplaintBtn = locator("h2.digit-button-label:has-text('Search Complaint')");
+        this.createUserBtn = locator("h2.digit-button-label:has-text('Create User')");
+        this.searchUserBtn = locator("h2.digit-button-label:has-text('Search User')");
     }
 
     // ==================== NAVIGATION (Returns Page Object) ====================
@@ -41,8 +41,10 @@ public class HomePage extends BasePage {
      * @return ComplaintPage object
      */
     public ComplaintPage goToCreateComplaint() {
-        createComplaintBtn.click();
-        waitForPageLoad();
+        timed("goToCreateComplaint", () -> {
+            createComplaintBtn.click();
+            waitForPageLoad();
+        });
         return new ComplaintPage(page);
     }
 
@@ -51,8 +53,10 @@ public class HomePage extends BasePage {
      * (Add SearchComplaintPage class when needed)
      */
     public void goToSearchComplaint() {
-        searchComplaintBtn.click();
-        waitForPageLoad();
+        timed("goToSearchComplaint", () -> {
+            searchComplaintBtn.click();
+            waitForPageLoad();
+        });
     }
 
     /**
@@ -60,8 +64,10 @@ public class HomePage extends BasePage {
      * (Add CreateUserPage class when needed)
      */
     public void goToCreateUser() {
-        createUserBtn.click();
-        waitForPageLoad();
+        timed("goToCreateUser", () -> {
+            createUserBtn.click();
+            waitForPageLoad();
+        });
     }
 
     /**
@@ -69,8 +75,10 @@ public class HomePage extends BasePage {
      * (Add SearchUserPage class when needed)
      */
     public void goToSearchUser() {
-        searchUserBtn.click();
-        waitForPageLoad();
+        timed("goToSearchUser", () -> {
+            searchUserBtn.click();
+            waitForPageLoad();
+        });
     }
 
     // ==================== SIMPLE NAVIGATION (No return) ====================
@@ -1,8 +1,13 @@
 package pages;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 
+import pages.components.DigitDropdown;
+
 /**
  * Page Object for Login Page.
  *
@@ -13,21 +18,23 @@ import com.microsoft.playwright.Page;
 public class LoginPage extends BasePage {
 
     // Locators
+    private static final String USERNAME_SELECTOR = "input[name='username']";
+    private static final String PASSWORD_SELECTOR = "input[name='password']";
     private final Locator usernameInput;
     private final Locator passwordInput;
     private final Locator tenantDropdown;
-    private final Locator tenantOption;
+    private final DigitDropdown tenant;
     private final Locator privacyCheckbox;
     private final Locator loginButton;
 
     public LoginPage(Page page) {
         super(page);
-        this.usernameInput = page.locator("input[name='username']");
-        this.passwordInput = page.locator("input[name='password']");
-        this.tenantDropdown = page.locator("#user-login-core_common_city");
-        this.tenantOption = page.locator(".main-option");
-        this.privacyCheckbox = page.locator("#privacy-component-check");
-        this.loginButton = page.locator("#formcomposer-submit-action");
+        this.usernameInput = locator(USERNAME_SELECTOR);
+        this.passwordInput = locator(PASSWORD_SELECTOR);
+        this.tenantDropdown = locator("#user-login-core_common_city");
+        this.tenant = new DigitDropdown(page, tenantDropdown);
+        this.privacyCheckbox = locator("#privacy-component-check");
+        this.loginButton = locator("#formcomposer-submit-action");
     }
 
     /**
@@ -38,14 +45,15 @@ public class LoginPage extends BasePage {
      * @return HomePage object after successful login
      */
     public HomePage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        if (isTenantDropdownVisible()) {
-            selectFirstTenant();
-        }
-        acceptPrivacyPolicy();
-        clickLogin();
-        waitForPageLoad();
+        timed("login", () -> {
+            enterCredentials(username, password);
+            if (isTenantDropdownVisible()) {
+                selectFirstTenant();
+            }
+            acceptPrivacyPolicy();
+            clickLogin();
+            waitForPageLoad();
+        });
         return new HomePage(page);
     }
 
@@ -58,19 +66,30 @@ public class LoginPage extends BasePage {
      * @return HomePage object after successful login
      */
     public HomePage login(String username, String password, String tenantName) {
-        enterUsername(username);
-        enterPassword(password);
-        if (isTenantDropdownVisible()) {
-            selectTenant(tenantName);
-        }
-        acceptPrivacyPolicy();
-        clickLogin();
-        waitForPageLoad();
+        timed("login", () -> {
+            enterCredentials(username, password);
+            if (isTenantDropdownVisible()) {
+                selectTenant(tenantName);
+            }
+            acceptPrivacyPolicy();
+            clickLogin();
+            waitForPageLoad();
+        });
         return new HomePage(page);
     }
 
     // ==================== INDIVIDUAL ACTIONS ====================
 
+    /**
+     * Fill username and password in one browser call (see FormHelper.fillAll).
+     */
+    public void enterCredentials(String username, String password) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(USERNAME_SELECTOR, username);
+        fields.put(PASSWORD_SELECTOR, password);
+        form.fillAll(fields);
+    }
+
     public void enterUsername(String username) {
         usernameInput.click();
         usernameInput.fill(username);
@@ -82,13 +101,11 @@ public class LoginPage extends BasePage {
     }
 
     public void selectFirstTenant() {
-        tenantDropdown.click();
-        tenantOption.first().click();
+        tenant.selectByIndex(0);
     }
 
     public void selectTenant(String tenantName) {
-        tenantDropdown.click();
-        page.getByText(tenantName).click();
+        tenant.select(tenantName);
     }
 
     public void acceptPrivacyPolicy() {
@@ -110,6 +127,6 @@ public class LoginPage extends BasePage {
     }
 
     public String getErrorMessage() {
-        return page.locator(".error-message").textContent();
+        return locator(".error-message").textContent();
     }
 }
@@ -0,0 +1,151 @@
+package pages.components;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import utils.ConfigReader;
+import utils.StepTimings;
+import utils.WaitHelper;
+
+/**
+ * DatePicker - Component object for react-datepicker inputs.
+ *
+ * Sets any LocalDate in one pass: the month offset is computed from the
+ * calendar header (e.g. "October 2026"), the next/previous button is clicked
+ * that many times, and the only wait is for the header to show the target
+ * month. Then the day cell of that month is clicked. Dates in other months
+ * and years work the same way as dates in the current month.
+ *
+ * With DATE_INPUT_MODE=type the date is typed into the input instead. If the
+ * input does not keep the typed value, the calendar is used.
+ *
+ * Usage:
+ *   DatePicker start = new DatePicker(page, page.locator("input.start-date"));
+ *   start.select(LocalDate.now().plusDays(1));
+ *   start.selectToday();
+ *
+ * Config (.env):
+ *   DATE_INPUT_MODE=type           calendar | type (default calendar)
+ *   DATE_INPUT_FORMAT=dd/MM/yyyy   Format used when typing (default dd/MM/yyyy)
+ */
+public class DatePicker {
+
+    private static final String CALENDAR = ".react-datepicker";
+    private static final DateTimeFormatter HEADER = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+
+    private final Page page;
+    private final Locator input;
+    private final WaitHelper waits;
+    private final Locator calendar;
+    private final Locator header;
+
+    public DatePicker(Page page, Locator input) {
+        this.page = page;
+        this.input = input;
+        this.waits = new WaitHelper(page);
+        this.calendar = page.locator(CALENDAR + " >> visible=true").first();
+        this.header = calendar.locator(".react-datepicker__current-month");
+    }
+
+    /**
+     * Set the date, by typing or through the calendar depending on DATE_INPUT_MODE.
+     */
+    public void set(LocalDate date) {
+        if ("type".equalsIgnoreCase(ConfigReader.get("DATE_INPUT_MODE", "calendar")) && type(date)) {
+            return;
+        }
+        select(date);
+    }
+
+    /**
+     * Pick the date from the calendar popup.
+     */
+    public void select(LocalDate date) {
+        timed("select", () -> {
+            open();
+            goToMonth(YearMonth.from(date));
+            calendar.locator(String.format(".react-datepicker__day--0%02d:not(.react-datepicker__day--outside-month)",
+                    date.getDayOfMonth())).first().click();
+            waits.forHidden(calendar);
+        });
+    }
+
+    /**
+     * Pick today's cell from the calendar popup.
+     */
+    public void selectToday() {
+        timed("selectToday", () -> {
+            open();
+            calendar.locator(".react-datepicker__day--today").first().click();
+            waits.forHidden(calendar);
+        });
+    }
+
+    /**
+     * Type the date into the input (DATE_INPUT_FORMAT).
+     *
+     * @return false when the input did not accept the typed value
+     */
+    public boolean type(LocalDate date) {
+        String text = date.format(DateTimeFormatter.ofPattern(ConfigReader.get("DATE_INPUT_FORMAT", "dd/MM/yyyy")));
+        input.fill(text);
+        input.press("Enter");
+        if (calendar.isVisible()) {
+            page.keyboard().press("Escape");
+        }
+        return text.equals(value());
+    }
+
+    public String value() {
+        String value = input.inputValue();
+        return value.isEmpty() ? (String) input.evaluate("el => el.value") : value;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private void open() {
+        if (!calendar.isVisible()) {
+            input.click();
+        }
+        waits.forVisible(calendar);
+    }
+
+    /**
+     * Click next/previous as often as needed, then wait once for the target month header.
+     */
+    private void goToMonth(YearMonth target) {
+        YearMonth shown = shownMonth();
+        long offset = ChronoUnit.MONTHS.between(shown, target);
+        if (offset == 0) {
+            return;
+        }
+        Locator button = calendar.locator(offset > 0
+                ? ".react-datepicker__navigation--next"
+                : ".react-datepicker__navigation--previous");
+        for (long i = 0; i < Math.abs(offset); i++) {
+            button.click();
+        }
+        String expected = target.format(HEADER);
+        waits.until("calendar showing " + expected, () -> expected.equals(header.textContent().trim()));
+    }
+
+    private YearMonth shownMonth() {
+        String text = header.textContent().trim();
+        try {
+            return YearMonth.parse(text, HEADER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("Unexpected calendar header '" + text + "', expected e.g. 'October 2026'", e);
+        }
+    }
+
+    private void timed(String action, Runnable body) {
+        StepTimings.time("DatePicker", action, input.toString(), body);
+    }
+}
@@ -0,0 +1,250 @@
+package pages.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import utils.StepTimings;
+import utils.WaitHelper;
+
+/**
+ * DigitDropdown - Component object for DIGIT UI dropdowns.
+ *
+ * Option lookups are scoped to the dropdown's own options card instead of
+ * page.getByText() / ".main-option" over the whole DOM, which is slower on
+ * long pages and can hit the wrong node (another dropdown, a label with the
+ * same text). The option texts are read once per opening with a single
+ * allInnerTexts() call and matched in Java.
+ *
+ * The options card is looked up inside the closest DIGIT dropdown wrapper of
+ * the trigger. If the trigger has no such wrapper, the visible options card on
+ * the page is used.
+ *
+ * Usage:
+ *   DigitDropdown type = new DigitDropdown(page, page.locator("#complaint-type"));
+ *   type.select("Water Leakage");
+ *   type.selectByIndex(0);
+ *   type.select(text -> text.startsWith("Street"));
+ *
+ *   // Multi-select: one opening, several options
+ *   new DigitDropdown(page, page.locator("#boundaries")).selectMany(List.of("Ward 1", "Ward 2"));
+ *
+ *   // Long lists with a search box
+ *   type.typeToFilter("Garb").select("Garbage");
+ */
+public class DigitDropdown {
+
+    private static final String WRAPPER = "xpath=ancestor-or-self::*[contains(@class, 'digit-dropdown-employee-select-wrap')"
+            + " or contains(@class, 'digit-dropdown-select-wrap')][1]";
+    private static final String OPTIONS_CARD = ".digit-dropdown-options-card";
+    private static final String ITEM = ".digit-dropdown-item";
+
+    private final Page page;
+    private final Locator trigger;
+    private final WaitHelper waits;
+    private boolean forceClick;
+
+    // Resolved on first use
+    private Locator items;
+    private List<String> optionTexts;
+
+    public DigitDropdown(Page page, Locator trigger) {
+        this.page = page;
+        this.trigger = trigger;
+        this.waits = new WaitHelper(page);
+    }
+
+    /**
+     * Click the trigger and the options with force, for dropdowns covered by an overlay
+     * (e.g. the campaign type field).
+     */
+    public DigitDropdown forceClick() {
+        this.forceClick = true;
+        return this;
+    }
+
+    // ==================== OPEN / CLOSE ====================
+
+    /**
+     * Open the dropdown (no-op when already open) and wait for its options.
+     */
+    public DigitDropdown open() {
+        timed("open", () -> {
+            if (!isOpen()) {
+                // Closed since the options were read (e.g. by an outside click): read them again
+                optionTexts = null;
+                trigger.click(clickOptions());
+            }
+            waits.forVisible(items().first());
+        });
+        return this;
+    }
+
+    public boolean isOpen() {
+        return items().first().isVisible();
+    }
+
+    /**
+     * Close the dropdown if it is still open (multi-select dropdowns stay open).
+     */
+    public void close() {
+        if (isOpen()) {
+            page.keyboard().press("Escape");
+            if (isOpen()) {
+                trigger.click(clickOptions());
+            }
+        }
+        optionTexts = null;
+    }
+
+    // ==================== OPTIONS ====================
+
+    /**
+     * Option texts in display order (opens the dropdown, read once per opening).
+     */
+    public List<String> options() {
+        open();
+        if (optionTexts == null) {
+            optionTexts = new ArrayList<>();
+            for (String text : items().allInnerTexts()) {
+                optionTexts.add(text.trim());
+            }
+        }
+        return optionTexts;
+    }
+
+    // ==================== SELECT ====================
+
+    /**
+     * Select the option with this text (exact match first, then "contains").
+     */
+    public void select(String text) {
+        timed("select", () -> {
+            clickOption(indexOf(text));
+            waitUntilClosed();
+        });
+    }
+
+    /**
+     * Select the option at a position (0 = first).
+     */
+    public void selectByIndex(int index) {
+        timed("selectByIndex", () -> {
+            open();
+            clickOption(index);
+            waitUntilClosed();
+        });
+    }
+
+    /**
+     * Select the first option whose text matches.
+     */
+    public void select(Predicate<String> matcher) {
+        timed("selectMatching", () -> {
+            List<String> texts = options();
+            for (int i = 0; i < texts.size(); i++) {
+                if (matcher.test(texts.get(i))) {
+                    clickOption(i);
+                    waitUntilClosed();
+                    return;
+                }
+            }
+            throw new IllegalArgumentException("No option matches in dropdown " + trigger + ", options: " + texts);
+        });
+    }
+
+    /**
+     * Select several options without reopening the dropdown, then close it.
+     */
+    public void selectMany(List<String> texts) {
+        timed("selectMany", () -> {
+            List<Integer> indexes = new ArrayList<>();
+            for (String text : texts) {
+                indexes.add(indexOf(text));
+            }
+            for (int index : indexes) {
+                if (!isOpen()) {
+                    trigger.click(clickOptions());
+                }
+                items().nth(index).click(clickOptions());
+            }
+            close();
+        });
+    }
+
+    /**
+     * Type into the dropdown's search box to narrow a long option list.
+     */
+    public DigitDropdown typeToFilter(String text) {
+        timed("typeToFilter", () -> {
+            open();
+            Locator search = searchBox();
+            int before = items().count();
+            search.fill(text);
+            optionTexts = null;
+            // Wait for the list to react; a filter that matches everything leaves the count unchanged
+            String needle = text.toLowerCase();
+            waits.until("options filtered by '" + text + "'", () -> items().count() != before
+                    || items().first().innerText().toLowerCase().contains(needle));
+        });
+        return this;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private int indexOf(String text) {
+        List<String> texts = options();
+        int index = texts.indexOf(text.trim());
+        if (index < 0) {
+            for (int i = 0; i < texts.size(); i++) {
+                if (texts.get(i).contains(text.trim())) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Option '" + text + "' not in dropdown " + trigger + ", options: " + texts);
+        }
+        return index;
+    }
+
+    private void clickOption(int index) {
+        items().nth(index).click(clickOptions());
+        optionTexts = null;
+    }
+
+    private Locator.ClickOptions clickOptions() {
+        return new Locator.ClickOptions().setForce(forceClick);
+    }
+
+    private void waitUntilClosed() {
+        waits.forHidden(items().first());
+    }
+
+    private Locator items() {
+        if (items == null) {
+            Locator wrapper = wrapper();
+            items = wrapper != null
+                    ? wrapper.locator(OPTIONS_CARD + " " + ITEM)
+                    : page.locator(OPTIONS_CARD + " >> visible=true").locator(ITEM);
+        }
+        return items;
+    }
+
+    private Locator searchBox() {
+        Locator wrapper = wrapper();
+        Locator scope = wrapper != null ? wrapper : page.locator(OPTIONS_CARD + " >> visible=true").locator("xpath=..");
+        return scope.locator("input").first();
+    }
+
+    // Closest DIGIT dropdown wrapper of the trigger, or null when the trigger has none
+    private Locator wrapper() {
+        Locator wrapper = trigger.locator(WRAPPER);
+        return wrapper.count() > 0 ? wrapper.first() : null;
+    }
+
+    private void timed(String action, Runnable body) {
+        StepTimings.time("DigitDropdown", action, trigger.toString(), body);
+    }
+}
@@ -0,0 +1,193 @@
+package tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import base.Dirties;
+import pages.BoundarySelectionPage;
+import utils.ConfigReader;
+import utils.WaitTimeoutException;
+
+/**
+ * Stress mode for the boundary step: selects K leaf boundaries and measures
+ * how the UI scales with the number of selections.
+ *
+ * For each size K the test first walks the first path down to the leaf level
+ * to learn the depth and fan-out, then selects just enough parents on each
+ * level for the leaf level to offer K boundaries (e.g. with fan-out 10 and
+ * K=1000: 1 country, 10 provinces, 100 districts, 1000 localities), and finally
+ * selects K leaves. It records the UI response time of every leaf selection
+ * (click until the checkbox shows it) and the time from the last selection
+ * until the Next button is enabled.
+ *
+ * Reports:
+ *   reports/boundary-scaling.csv   One row per size: the scaling curve
+ *   reports/boundary-samples.csv   Every selection: size, level, index, ms
+ *
+ * Run:
+ *   mvn test -DsuiteXml=testng-stress.xml
+ *   (against the mock: TARGET=mock and MOCK_BOUNDARY_FANOUT=10 in .env)
+ *
+ * Config (.env):
+ *   BOUNDARY_STRESS_SIZES=10,100,1000   Selection counts to measure (default 10,100,1000)
+ */
+public class BoundarySelectionStressTest extends BoundarySelectionTest {
+
+    private static final Path SCALING_REPORT = Paths.get("reports", "boundary-scaling.csv");
+    private static final Path SAMPLES_REPORT = Paths.get("reports", "boundary-samples.csv");
+
+    private static final List<String> scalingRows = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> sampleRows = Collections.synchronizedList(new ArrayList<>());
+
+    @DataProvider(name = "sizes")
+    public Object[][] sizes() {
+        String[] sizes = ConfigReader.get("BOUNDARY_STRESS_SIZES", "10,100,1000").split(",");
+        Object[][] rows = new Object[sizes.length][];
+        for (int i = 0; i < sizes.length; i++) {
+            rows[i] = new Object[] {Integer.parseInt(sizes[i].trim())};
+        }
+        return rows;
+    }
+
+    @Override
+    @Test(enabled = false)
+    public void verifyBoundarySelection() {}
+
+    @Override
+    @Test(enabled = false)
+    public void verifyBoundaryHierarchyWalk() {}
+
+    @Test(groups = {"stress"}, dataProvider = "sizes")
+    @Dirties({Dirties.Scope.PAGE, Dirties.Scope.STORAGE})
+    public void selectBoundariesAtScale(int size) {
+        BoundarySelectionPage boundaries = new BoundarySelectionPage(page);
+        long start = System.nanoTime();
+
+        // Probe: first option down to the leaf level gives the depth and the fan-out of each level
+        int levels = boundaries.selectFirstPathToLeaf();
+        int leaf = levels - 1;
+        int[] fanOut = new int[levels];
+        for (int level = 0; level < levels; level++) {
+            fanOut[level] = boundaries.options(level).size();
+        }
+        boundaries.commit();
+
+        // Parents: top-down (changing a level resets the levels below it), just enough per level
+        // for the leaf level to offer K boundaries
+        int parents = 0;
+        for (int level = 0; level < leaf; level++) {
+            int needed = Math.min(parentsNeeded(size, fanOut, level), boundaries.options(level).size());
+            boundaries.selectByIndex(level, firstIndexes(needed));
+            parents += needed;
+        }
+        long setupMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Leaves: the measured part, one timed toggle per selection
+        List<Long> toggleMs = new ArrayList<>();
+        boundaries.openLevel(leaf);
+        // The probe's leaf is still selected when no level above needed more than one parent
+        List<Boolean> checked = boundaries.checkedStates(leaf);
+        int selected = Math.min(size, checked.size());
+        for (int index = 0; index < selected; index++) {
+            if (checked.get(index)) {
+                // Already selected: counts toward K but is not a measured selection
+                continue;
+            }
+            long t0 = System.nanoTime();
+            boundaries.toggle(leaf, index);
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            toggleMs.add(ms);
+            sampleRows.add(size + "," + leaf + "," + index + "," + ms);
+        }
+
+        // Time to Next enabled is counted from the end of the last selection until the button
+        // reacts (it may enable after the commit's network idle); -1 when it never does
+        long t0 = System.nanoTime();
+        boundaries.commit();
+        long nextEnabledMs;
+        try {
+            waits.until("Next enabled after " + selected + " leaf selections", boundaries::isNextEnabled);
+            nextEnabledMs = (System.nanoTime() - t0) / 1_000_000;
+        } catch (WaitTimeoutException e) {
+            nextEnabledMs = -1;
+        }
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+        scalingRows.add(String.format("%d,%d,%d,%d,%d,%d,%d,%d,%d,%d",
+                size, selected, levels, parents, setupMs, totalMs, mean(toggleMs), percentile(toggleMs, 95),
+                toggleMs.isEmpty() ? 0 : Collections.max(toggleMs), nextEnabledMs));
+        System.out.printf("Boundary stress K=%d: %d leaves selected (%d parents over %d levels) in %d ms,"
+                + " Next enabled after %d ms%n", size, selected, parents, levels, totalMs, nextEnabledMs);
+
+        Assert.assertEquals(selected, size, "Hierarchy has fewer leaf boundaries than the requested stress size"
+                + " (raise MOCK_BOUNDARY_FANOUT or lower BOUNDARY_STRESS_SIZES)");
+        Assert.assertTrue(boundaries.isNextEnabled(), "Next is not enabled after selecting " + selected + " leaves");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeScalingReport() {
+        if (scalingRows.isEmpty()) {
+            return;
+        }
+        List<String> scaling = new ArrayList<>();
+        scaling.add("size,selected,levels,parents,setup_ms,total_ms,mean_select_ms,p95_select_ms,max_select_ms,"
+                + "next_enabled_ms");
+        scaling.addAll(scalingRows);
+        List<String> samples = new ArrayList<>();
+        samples.add("size,level,index,ms");
+        samples.addAll(sampleRows);
+        try {
+            Files.createDirectories(SCALING_REPORT.getParent());
+            Files.write(SCALING_REPORT, scaling);
+            Files.write(SAMPLES_REPORT, samples);
+            System.out.println("Boundary scaling report saved: " + SCALING_REPORT.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Could not write boundary scaling report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parents to select on a level so that the leaf level offers at least K boundaries,
+     * from the fan-out (children of one node) measured below it.
+     */
+    private static int parentsNeeded(int size, int[] fanOut, int level) {
+        int needed = size;
+        for (int below = fanOut.length - 1; below > level; below--) {
+            needed = (needed + fanOut[below] - 1) / Math.max(1, fanOut[below]);
+        }
+        return Math.max(1, needed);
+    }
+
+    private static List<Integer> firstIndexes(int count) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private static long mean(List<Long> values) {
+        return values.isEmpty() ? 0 : values.stream().mapToLong(Long::longValue).sum() / values.size();
+    }
+
+    // Nearest-rank percentile, as in the StepTimings report
+    private static long percentile(List<Long> values, int p) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+}
@@ -1,39 +1,82 @@
 package tests;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import base.BlockResources;
+import base.Dirties;
+import base.StartState;
 import pages.BoundarySelectionPage;
+import utils.PreconditionBreaker;
+import utils.ResourceBlocker;
+import utils.WizardCheckpoints;
 
+@BlockResources(ResourceBlocker.Profile.MINIMAL)
+@StartState("campaign/wizard/boundaries")
 public class BoundarySelectionTest extends BednetDraftCampaignTest {
 
+    private static final String CHECKPOINT = "boundary-selection";
+
+    // Precondition: walking the wizard up to the boundary step (see PreconditionBreaker)
+    private static final String DEFINE_TARGET = "campaign.define-target";
+
+    // Wizard step with the "Define target" button, after campaign type, name and dates
+    private static final int DEFINE_TARGET_STEP = 4;
+
     private BoundarySelectionPage boundaryPage;
 
+    @Override
+    protected String checkpoint() {
+        return CHECKPOINT;
+    }
+
     @BeforeMethod(alwaysRun = true, dependsOnMethods = "navigateToCreateCampaign")
     public void navigateToBoundarySelection() {
-        draftPage.clickCampaignTypeDropdown();
-        draftPage.clickBednetDropdown();
-        draftPage.clickNext();
-        page.waitForLoadState();
-        page.waitForTimeout(2000);
-
-        draftPage.clearAndEnterDynamicCampaignName();
-        draftPage.clickNext();
-        page.waitForLoadState();
-        page.waitForTimeout(2000);
-
-        draftPage.fillStartDate();
-        page.waitForTimeout(1000);
-        draftPage.fillEndDate();
-        page.waitForTimeout(1000);
-        draftPage.clickNext();
-        page.waitForLoadState();
-        page.waitForTimeout(2000);
-
-        boundaryPage = new BoundarySelectionPage(page);
-        boundaryPage.clickDefineTarget();
-        page.waitForLoadState();
-        page.waitForTimeout(2000);
+        if (resumedFromCheckpoint) {
+            boundaryPage = new BoundarySelectionPage(page);
+            boundaryPage.waitUntilLoaded();
+            return;
+        }
+
+        PreconditionBreaker.run(DEFINE_TARGET, () -> {
+            boundaryPage = new BoundarySelectionPage(page);
+            if (openedDraftFromApi) {
+                // Draft already has type, name and dates: straight to the boundary step
+                boundaryPage.clickDefineTarget();
+                return;
+            }
+            draftPage.clickCampaignTypeDropdown();
+            draftPage.clickBednetDropdown();
+            draftPage.clickNext();
+
+            draftPage.waitForCampaignNameStep();
+            draftPage.clearAndEnterDynamicCampaignName();
+            draftPage.clickNext();
+
+            draftPage.waitForDatesStep();
+            draftPage.fillStartDate();
+            draftPage.fillEndDate();
+            draftPage.clickNext();
+
+            boundaryPage.clickDefineTarget();
+        });
+        WizardCheckpoints.capture(CHECKPOINT, page);
+    }
+
+    @Override
+    protected List<String> preconditions() {
+        List<String> names = new ArrayList<>(super.preconditions());
+        names.add(DEFINE_TARGET);
+        return names;
+    }
+
+    @Override
+    protected int draftStartStep() {
+        return DEFINE_TARGET_STEP;
     }
 
     @Override
@@ -41,21 +84,29 @@ public class BoundarySelectionTest extends BednetDraftCampaignTest {
     public void verifyBednetDraftCampaignFlow() {}
 
     @Test(groups = {"regression"})
+    @Dirties({Dirties.Scope.PAGE, Dirties.Scope.STORAGE})
     public void verifyBoundarySelection() {
+        // Each step waits for the next level's options instead of sleeping
+
         // Step 1: Select first boundary level
         boundaryPage.clickfirstlevel();
-        page.waitForTimeout(2000);
 
         // Step 2: Select second boundary level
         boundaryPage.clicksecondlevel();
-        page.waitForTimeout(2000);
 
         // Step 3: Select third boundary level
         boundaryPage.clickthirdlevel();
-        page.waitForTimeout(2000);
 
         // Step 4: Select fourth boundary level
         boundaryPage.clickfourthlevel();
-        page.waitForTimeout(2000);
+    }
+
+    @Test(groups = {"regression"})
+    @Dirties({Dirties.Scope.PAGE, Dirties.Scope.STORAGE})
+    public void verifyBoundaryHierarchyWalk() {
+        // Walks down as many levels as the tenant has, waiting only for each level's children
+        int levels = boundaryPage.selectFirstPathToLeaf();
+        Assert.assertTrue(levels > 0, "At least one boundary level should be selectable");
+        Assert.assertEquals(levels, boundaryPage.levelCount(), "Every shown level should have a selection");
     }
 }
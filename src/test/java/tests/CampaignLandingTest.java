@@ -5,23 +5,36 @@ import org.testng.annotations.Test;
 
 import base.BaseTest;
 import pages.CampaignLandingPage;
+import utils.WizardCheckpoints;
 
 public class CampaignLandingTest extends BaseTest {
 
     protected CampaignLandingPage landingPage;
 
+    // True when the page is already at the class's start state (restored from checkpoint(), or a
+    // reused context left there by the previous test); subclasses skip their replay steps
+    protected boolean resumedFromCheckpoint;
+
     @BeforeMethod(alwaysRun = true, dependsOnMethods = "setup")
     public void navigateToLandingPage() {
         landingPage = new CampaignLandingPage(page);
+        resumedFromCheckpoint = atStartState()
+                || (checkpoint() != null && WizardCheckpoints.resume(checkpoint(), page));
+    }
+
+    /**
+     * Wizard checkpoint this class starts from, or null to always start from the home page.
+     */
+    protected String checkpoint() {
+        return null;
     }
 
     @Test(groups = {"regression"})
     public void verifyCreateCampaignFromScratch() {
         landingPage.clickCreateCampaign();
-        page.waitForLoadState();
+        waits.forUrlContaining("/campaign/campaign-home");
         landingPage.clickScratchCard();
-        page.waitForLoadState();
         landingPage.clickContinue();
-        page.waitForLoadState();
+        waits.forUrlContaining("create-campaign");
     }
 }
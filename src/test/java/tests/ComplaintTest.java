@@ -4,21 +4,24 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import base.BaseTest;
+import base.BlockResources;
 import pages.ComplaintPage;
+import utils.ResourceBlocker;
 
 /**
  * Test class for Complaint functionality.
  *
  * Navigation options available:
- *   1. nav.goToCreateComplaint()     - Uses NavigationHelper
- *   2. homePage.goToCreateComplaint() - Uses HomePage (pre-initialized)
+ *   1. nav().goToCreateComplaint()     - Uses NavigationHelper
+ *   2. homePage().goToCreateComplaint() - Uses HomePage (pre-initialized)
  */
+@BlockResources(ResourceBlocker.Profile.MINIMAL)
 public class ComplaintTest extends BaseTest {
 
     @Test
     public void createComplaint() {
         // Option 1: Using NavigationHelper (recommended)
-        ComplaintPage complaint = nav.goToCreateComplaint();
+        ComplaintPage complaint = nav().goToCreateComplaint();
 
         // Verify we're on the complaint form
         Assert.assertTrue(complaint.isFormDisplayed(), "Complaint form should be displayed");
@@ -30,7 +33,7 @@ public class ComplaintTest extends BaseTest {
     @Test
     public void createComplaintWithFluentNavigation() {
         // Option 2: Using fluent navigation from HomePage
-        homePage.goToCreateComplaint()
+        homePage().goToCreateComplaint()
                 .selectComplaintType("Garbage")
                 .selectTodayDate()
                 .selectCountryByIndex(0)
@@ -42,7 +45,7 @@ public class ComplaintTest extends BaseTest {
     @Test
     public void createComplaintByIndex() {
         // Navigate and fill form using index-based selection
-        ComplaintPage complaint = nav.goToCreateComplaint();
+        ComplaintPage complaint = nav().goToCreateComplaint();
         complaint.fillFormByIndex(0, 0, 0, "Test complaint description");
         complaint.submit();
     }
@@ -50,7 +53,7 @@ public class ComplaintTest extends BaseTest {
     @Test
     public void createComplaintWithAttachment() {
         // Fill form with attachment and submit in one call
-        ComplaintPage complaint = nav.goToCreateComplaint();
+        ComplaintPage complaint = nav().goToCreateComplaint();
         complaint.fillAndSubmit(
                 "Street Light",
                 "India",
@@ -11,7 +11,7 @@ public class HomeTest extends BaseTest {
     @Test
     public void navigateToCreateComplaint() {
        
-        HomePage homePage = new HomePage(page);
+        HomePage homePage = new HomePage(page());
         homePage.navigateToCreateComplaint();
     }
     
@@ -4,6 +4,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import base.BaseTest;
+import base.Dirties;
 
 /**
  * Test class for Login functionality.
@@ -14,28 +15,30 @@ import base.BaseTest;
 public class LoginTest extends BaseTest {
 
     @Test
+    @Dirties({})
     public void verifyUserCanLogin() {
         // Login is handled automatically in BaseTest.setup()
         // homePage is available directly after login
-        Assert.assertTrue(homePage.isHomeDisplayed(), "Home page should be displayed after login");
+        Assert.assertTrue(homePage().isHomeDisplayed(), "Home page should be displayed after login");
     }
 
     @Test
+    @Dirties({})
     public void verifyHomePageElements() {
         // Verify expected elements are visible on home page
-        Assert.assertTrue(homePage.isCreateComplaintVisible(), "Create Complaint button should be visible");
-        Assert.assertTrue(homePage.isSearchComplaintVisible(), "Search Complaint button should be visible");
+        Assert.assertTrue(homePage().isCreateComplaintVisible(), "Create Complaint button should be visible");
+        Assert.assertTrue(homePage().isSearchComplaintVisible(), "Search Complaint button should be visible");
     }
 
     @Test
     public void verifyNavigationFromHome() {
         // Test navigation to Create Complaint and back
-        homePage.goToCreateComplaint();
+        homePage().goToCreateComplaint();
 
         // Navigate back to home
-        nav.goToHome();
+        nav().goToHome();
 
         // Verify we're back on home page
-        Assert.assertTrue(homePage.isHomeDisplayed(), "Should be back on home page");
+        Assert.assertTrue(homePage().isHomeDisplayed(), "Should be back on home page");
     }
 }
@@ -0,0 +1,127 @@
+package utils;
+
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+
+/**
+ * AssetCache - Serves static assets to every browser context from one shared cache.
+ *
+ * Each test gets a fresh BrowserContext and so a cold browser HTTP cache,
+ * which means the DIGIT React bundles, fonts and images are downloaded again
+ * for every test. This installs a context route that answers GET requests for
+ * scripts, stylesheets, images, fonts and localization files from a
+ * ResponseCache shared by all contexts in the run. A miss is fetched once
+ * and stored. The route only matches static asset URLs (by extension) and
+ * localization paths, so API calls never pass through it. Only 200 responses without "Cache-Control: no-store" are cached.
+ *
+ * The key is method + URL + the Accept and Accept-Language headers.
+ *
+ * Config (.env):
+ *   ASSET_CACHE=false          Turn the cache off (default true)
+ *   ASSET_CACHE_MB=256         Memory limit (LRU eviction)
+ *   ASSET_CACHE_TTL_MIN=60     Entry lifetime in minutes
+ *   ASSET_CACHE_DIR=.cache/assets   Also keep entries on disk across runs (default: memory only)
+ */
+public final class AssetCache {
+
+    private static final Set<String> CACHED_TYPES = Set.of("script", "stylesheet", "image", "font");
+
+    // Only these URLs are routed through Java at all; API calls go straight to the network
+    private static final Pattern ASSET_URLS = Pattern.compile(
+            ".*(?:\\.(?:js|mjs|css|png|jpe?g|gif|svg|webp|ico|woff2?|ttf|otf|eot)(?:[?#].*)?$"
+            + "|/localization/.*|/locales/.*)", Pattern.CASE_INSENSITIVE);
+
+    private static volatile ResponseCache cache;
+
+    private AssetCache() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("ASSET_CACHE", true);
+    }
+
+    /**
+     * Route the context's static asset requests through the shared cache.
+     */
+    public static void install(BrowserContext context) {
+        if (!isEnabled()) {
+            return;
+        }
+        ResponseCache shared = cache();
+        context.route(ASSET_URLS, route -> handle(shared, route));
+    }
+
+    /**
+     * Hit/miss summary for the run, or null when nothing was cached.
+     */
+    public static String summary() {
+        ResponseCache current = cache;
+        return current == null ? null : current.summary();
+    }
+
+    private static void handle(ResponseCache shared, Route route) {
+        Request request = route.request();
+        if (!isCacheable(request)) {
+            route.fallback();
+            return;
+        }
+        String key = ResponseCache.key(request.method(), request.url(),
+                header(request, "accept"), header(request, "accept-language"));
+        ResponseCache.Entry hit = shared.get(key);
+        if (hit != null) {
+            route.fulfill(hit.toFulfill());
+            return;
+        }
+        APIResponse response;
+        try {
+            response = route.fetch();
+        } catch (RuntimeException e) {
+            // Let the request go on without the cache, so it fails (or succeeds) the normal way
+            // instead of hanging until the page times out
+            try {
+                route.fallback();
+            } catch (RuntimeException ignored) {
+                // Page closed or request cancelled while fetching
+            }
+            return;
+        }
+        String cacheControl = response.headers().getOrDefault("cache-control", "");
+        if (response.status() == 200 && !cacheControl.contains("no-store")) {
+            shared.put(key, ResponseCache.Entry.of(response));
+        }
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    private static boolean isCacheable(Request request) {
+        if (!"GET".equals(request.method())) {
+            return false;
+        }
+        return CACHED_TYPES.contains(request.resourceType())
+                || request.url().contains("/localization/") || request.url().contains("/locales/");
+    }
+
+    private static String header(Request request, String name) {
+        return request.headers().getOrDefault(name, "");
+    }
+
+    private static ResponseCache cache() {
+        if (cache == null) {
+            synchronized (AssetCache.class) {
+                if (cache == null) {
+                    String dir = ConfigReader.get("ASSET_CACHE_DIR", "");
+                    cache = new ResponseCache("Asset",
+                            ConfigReader.getInt("ASSET_CACHE_MB", 256) * 1024L * 1024L,
+                            ConfigReader.getInt("ASSET_CACHE_TTL_MIN", 60) * 60_000L,
+                            dir.isEmpty() ? null : Paths.get(dir));
+                }
+            }
+        }
+        return cache;
+    }
+}
@@ -2,12 +2,12 @@ package utils;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigReader {
 
-    private static final Map<String, String> config = new HashMap<>();
+    private static final Map<String, String> config = new ConcurrentHashMap<>();
 
     static {
         try (BufferedReader reader = new BufferedReader(new FileReader(".env"))) {
@@ -30,4 +30,34 @@ public class ConfigReader {
     public static String get(String key) {
         return config.get(key);
     }
+
+    /**
+     * Override a value for the rest of the run (e.g. BASE_URL pointing at the mock server).
+     */
+    public static void set(String key, String value) {
+        config.put(key, value);
+    }
+
+    /**
+     * Get a value, falling back to a default when the key is missing or blank.
+     */
+    public static String get(String key, String defaultValue) {
+        String value = config.get(key);
+        return (value == null || value.isEmpty()) ? defaultValue : value;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = config.get(key);
+        if (value == null || value.isEmpty()) return defaultValue;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = config.get(key);
+        return (value == null || value.isEmpty()) ? defaultValue : Boolean.parseBoolean(value);
+    }
 }
@@ -0,0 +1,47 @@
+package utils;
+
+/**
+ * Remembers which test is running on the current thread, so utilities that
+ * record per-test data (sleep budget, timings, screenshots) can tag it
+ * without the test passing its name around.
+ *
+ * Set by BaseTest.setup() and cleared in BaseTest.tearDown().
+ */
+public final class CurrentTest {
+
+    private static final ThreadLocal<String[]> CURRENT = new ThreadLocal<>();
+
+    private CurrentTest() {
+    }
+
+    public static void set(String className, String methodName) {
+        CURRENT.set(new String[] {className, methodName});
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return Test class simple name, or "unknown" outside a test
+     */
+    public static String className() {
+        String[] current = CURRENT.get();
+        return current == null ? "unknown" : current[0];
+    }
+
+    /**
+     * @return Test method name, or "unknown" outside a test
+     */
+    public static String methodName() {
+        String[] current = CURRENT.get();
+        return current == null ? "unknown" : current[1];
+    }
+
+    /**
+     * @return "ClassName.methodName"
+     */
+    public static String name() {
+        return className() + "." + methodName();
+    }
+}
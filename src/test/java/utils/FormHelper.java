@@ -4,9 +4,15 @@ import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.SelectOption;
 
+import pages.components.DigitDropdown;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * FormHelper - Easy-to-use utility for form interactions in UI tests.
@@ -34,11 +40,15 @@ import java.util.List;
  * ║                                                                               ║
  * ║  // Date Picker                                                               ║
  * ║  form.enterText("#date", "2024-01-15");                                       ║
+ * ║                                                                               ║
+ * ║  // Many plain fields in one browser call                                     ║
+ * ║  form.fillAll(Map.of("#name", "Ravi", "#phone", "9999999999"));               ║
  * ╚══════════════════════════════════════════════════════════════════════════════╝
  */
 public class FormHelper {
 
     private final Page page;
+    private final LocatorCache locators;
 
     /**
      * Create a new FormHelper instance.
@@ -51,6 +61,7 @@ public class FormHelper {
      */
     public FormHelper(Page page) {
         this.page = page;
+        this.locators = LocatorCache.of(page);
     }
 
     // ============================================================
@@ -68,7 +79,7 @@ public class FormHelper {
      *   form.enterText("input[name='password']", "secret123");
      */
     public void enterText(String selector, String text) {
-        page.locator(selector).fill(text);
+        timed("enterText", selector, () -> locators.get(selector).fill(text));
     }
 
     /**
@@ -81,8 +92,10 @@ public class FormHelper {
      *   form.typeSlowly("#search", "laptop");  // Triggers autocomplete suggestions
      */
     public void typeSlowly(String selector, String text) {
-        page.locator(selector).click();
-        page.locator(selector).pressSequentially(text);
+        timed("typeSlowly", selector, () -> {
+            locators.get(selector).click();
+            locators.get(selector).pressSequentially(text);
+        });
     }
 
     /**
@@ -91,7 +104,7 @@ public class FormHelper {
      * @param selector CSS selector for the input field
      */
     public void clearText(String selector) {
-        page.locator(selector).clear();
+        timed("clearText", selector, () -> locators.get(selector).clear());
     }
 
     // ============================================================
@@ -109,7 +122,7 @@ public class FormHelper {
      *   form.selectByText("#state", "Karnataka");
      */
     public void selectByText(String selector, String text) {
-        page.locator(selector).selectOption(new SelectOption().setLabel(text));
+        timed("selectByText", selector, () -> locators.get(selector).selectOption(new SelectOption().setLabel(text)));
     }
 
     /**
@@ -123,7 +136,7 @@ public class FormHelper {
      *   form.selectByValue("#country", "IN");
      */
     public void selectByValue(String selector, String value) {
-        page.locator(selector).selectOption(value);
+        timed("selectByValue", selector, () -> locators.get(selector).selectOption(value));
     }
 
     /**
@@ -136,7 +149,7 @@ public class FormHelper {
      *   form.selectByIndex("#country", 0);  // Selects first option
      */
     public void selectByIndex(String selector, int index) {
-        page.locator(selector).selectOption(new SelectOption().setIndex(index));
+        timed("selectByIndex", selector, () -> locators.get(selector).selectOption(new SelectOption().setIndex(index)));
     }
 
     // ============================================================
@@ -154,8 +167,10 @@ public class FormHelper {
      *   form.clickAndSelect(".dropdown-toggle", "li:has-text('Option 1')");
      */
     public void clickAndSelect(String dropdownSelector, String optionSelector) {
-        page.locator(dropdownSelector).click();
-        page.locator(optionSelector).click();
+        timed("clickAndSelect", dropdownSelector, () -> {
+            locators.get(dropdownSelector).click();
+            locators.get(optionSelector).click();
+        });
     }
 
     /**
@@ -168,11 +183,22 @@ public class FormHelper {
      *   form.selectMultiple("#tags-dropdown", List.of("Java", "Python", "Go"));
      */
     public void selectMultiple(String dropdownSelector, List<String> optionTexts) {
-        page.locator(dropdownSelector).click();
-        for (String text : optionTexts) {
-            page.locator("text=" + text).click();
-        }
-        page.keyboard().press("Escape");  // Close dropdown
+        // Options are looked up inside the dropdown's own popup, not the whole page
+        timed("selectMultiple", dropdownSelector, () -> dropdown(dropdownSelector).selectMany(optionTexts));
+    }
+
+    /**
+     * Component driver for a DIGIT dropdown (scoped option lookups, select by
+     * text/index/predicate, multi-select, type-to-filter).
+     *
+     * @param dropdownSelector Selector for the dropdown trigger
+     *
+     * Example:
+     *   form.dropdown("#tenant").select("Amaravati");
+     *   List<String> options = form.dropdown("#tenant").options();
+     */
+    public DigitDropdown dropdown(String dropdownSelector) {
+        return new DigitDropdown(page, locators.get(dropdownSelector));
     }
 
     // ============================================================
@@ -189,7 +215,7 @@ public class FormHelper {
      *   form.check("input[name='newsletter']");
      */
     public void check(String selector) {
-        page.locator(selector).check();
+        timed("check", selector, () -> locators.get(selector).check());
     }
 
     /**
@@ -198,7 +224,7 @@ public class FormHelper {
      * @param selector CSS selector for the checkbox
      */
     public void uncheck(String selector) {
-        page.locator(selector).uncheck();
+        timed("uncheck", selector, () -> locators.get(selector).uncheck());
     }
 
     /**
@@ -208,7 +234,7 @@ public class FormHelper {
      * @return true if checked, false otherwise
      */
     public boolean isChecked(String selector) {
-        return page.locator(selector).isChecked();
+        return timed("isChecked", selector, () -> locators.get(selector).isChecked());
     }
 
     // ============================================================
@@ -236,7 +262,8 @@ public class FormHelper {
      *   form.selectRadioByLabel("Credit Card");
      */
     public void selectRadioByLabel(String labelText) {
-        page.locator("label:has-text('" + labelText + "')").click();
+        String selector = "label:has-text('" + labelText + "')";
+        timed("selectRadioByLabel", selector, () -> locators.get(selector).click());
     }
 
     // ============================================================
@@ -254,7 +281,7 @@ public class FormHelper {
      *   form.uploadFile("input[type='file']", "C:\\docs\\photo.jpg");
      */
     public void uploadFile(String selector, String filePath) {
-        page.locator(selector).setInputFiles(Paths.get(filePath));
+        timed("uploadFile", selector, () -> locators.get(selector).setInputFiles(Paths.get(filePath)));
     }
 
     /**
@@ -268,7 +295,7 @@ public class FormHelper {
      */
     public void uploadFiles(String selector, List<String> filePaths) {
         Path[] paths = filePaths.stream().map(Paths::get).toArray(Path[]::new);
-        page.locator(selector).setInputFiles(paths);
+        timed("uploadFiles", selector, () -> locators.get(selector).setInputFiles(paths));
     }
 
     /**
@@ -277,7 +304,7 @@ public class FormHelper {
      * @param selector CSS selector for the file input
      */
     public void clearFiles(String selector) {
-        page.locator(selector).setInputFiles(new Path[0]);
+        timed("clearFiles", selector, () -> locators.get(selector).setInputFiles(new Path[0]));
     }
 
     // ============================================================
@@ -294,7 +321,7 @@ public class FormHelper {
      *   form.click("button:has-text('Save')");
      */
     public void click(String selector) {
-        page.locator(selector).click();
+        timed("click", selector, () -> locators.get(selector).click());
     }
 
     /**
@@ -307,7 +334,7 @@ public class FormHelper {
      *   String error = form.getText(".error-message");
      */
     public String getText(String selector) {
-        return page.locator(selector).textContent();
+        return timed("getText", selector, () -> locators.get(selector).textContent());
     }
 
     /**
@@ -320,7 +347,7 @@ public class FormHelper {
      *   String email = form.getValue("#email");
      */
     public String getValue(String selector) {
-        return page.locator(selector).inputValue();
+        return timed("getValue", selector, () -> locators.get(selector).inputValue());
     }
 
     /**
@@ -330,7 +357,7 @@ public class FormHelper {
      * @return true if visible
      */
     public boolean isVisible(String selector) {
-        return page.locator(selector).isVisible();
+        return timed("isVisible", selector, () -> locators.get(selector).isVisible());
     }
 
     /**
@@ -340,7 +367,7 @@ public class FormHelper {
      * @return true if enabled
      */
     public boolean isEnabled(String selector) {
-        return page.locator(selector).isEnabled();
+        return timed("isEnabled", selector, () -> locators.get(selector).isEnabled());
     }
 
     /**
@@ -353,7 +380,7 @@ public class FormHelper {
      *   form.waitFor("#success-message", 5000);  // Wait up to 5 seconds
      */
     public void waitFor(String selector, int timeoutMs) {
-        page.locator(selector).waitFor(new Locator.WaitForOptions().setTimeout(timeoutMs));
+        timed("waitFor", selector, () -> locators.get(selector).waitFor(new Locator.WaitForOptions().setTimeout(timeoutMs)));
     }
 
     /**
@@ -375,7 +402,7 @@ public class FormHelper {
      *   form.pressKey("Escape");  // Close modal
      */
     public void pressKey(String key) {
-        page.keyboard().press(key);
+        timed("pressKey", key, () -> page.keyboard().press(key));
     }
 
     /**
@@ -387,6 +414,166 @@ public class FormHelper {
      *   form.submitWithEnter("#search-box");
      */
     public void submitWithEnter(String selector) {
-        page.locator(selector).press("Enter");
+        timed("submitWithEnter", selector, () -> locators.get(selector).press("Enter"));
+    }
+
+    // ============================================================
+    //                     BATCH FILL
+    // ============================================================
+
+    // Sets plain input/textarea/select values the way React expects (native value
+    // setter + bubbling input/change events) and returns the fields it could not handle
+    // as [selector, "select" | "other" | "missing"]
+    private static final String FILL_ALL_SCRIPT =
+            "fields => {\n"
+            + "  const unhandled = [];\n"
+            + "  for (const [selector, value] of fields) {\n"
+            + "    let el = null;\n"
+            + "    try { el = document.querySelector(selector); } catch (e) { }\n"
+            + "    const kind = !el ? 'missing' : el instanceof HTMLSelectElement ? 'select' : 'other';\n"
+            + "    const plain = el && !el.disabled && !el.readOnly && (el instanceof HTMLTextAreaElement\n"
+            + "        || el instanceof HTMLSelectElement\n"
+            + "        || (el instanceof HTMLInputElement && !['checkbox', 'radio', 'file'].includes(el.type)));\n"
+            + "    if (!plain) { unhandled.push([selector, kind]); continue; }\n"
+            + "    const setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value').set;\n"
+            + "    el.focus();\n"
+            + "    setter.call(el, value);\n"
+            + "    el.dispatchEvent(new Event('input', { bubbles: true }));\n"
+            + "    el.dispatchEvent(new Event('change', { bubbles: true }));\n"
+            + "    el.blur();\n"
+            + "    if (el.value !== value) { unhandled.push([selector, kind]); }\n"
+            + "  }\n"
+            + "  return unhandled;\n"
+            + "}";
+
+    /**
+     * Fill many plain fields in a single browser round-trip.
+     *
+     * Inputs, textareas and selects found with a CSS selector are set in one
+     * evaluate call. Anything else (Playwright-only selectors like "text=" or
+     * ">> nth=1", fields not rendered yet, disabled fields, custom widgets)
+     * falls back to enterText(), or selectByValue() for a select, which wait for
+     * the field as usual.
+     *
+     * @param fields Selector to value, filled in iteration order (use a LinkedHashMap
+     *               when order matters)
+     *
+     * Example:
+     *   Map<String, String> fields = new LinkedHashMap<>();
+     *   fields.put("input[name='name']", "Ravi");
+     *   fields.put("input[name='mobileNumber']", "9999999999");
+     *   form.fillAll(fields);
+     */
+    public void fillAll(Map<String, String> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        timed("fillAll", String.join(", ", fields.keySet()), () -> {
+            List<List<String>> entries = new ArrayList<>();
+            fields.forEach((selector, value) -> entries.add(List.of(selector, value)));
+            @SuppressWarnings("unchecked")
+            List<List<String>> unhandled = (List<List<String>>) page.evaluate(FILL_ALL_SCRIPT, entries);
+            for (List<String> field : unhandled) {
+                String selector = field.get(0);
+                String kind = field.get(1);
+                if ("missing".equals(kind)) {
+                    // Not rendered yet, or a Playwright-only selector: ask once it is there
+                    kind = (Boolean) locators.get(selector).evaluate("el => el instanceof HTMLSelectElement")
+                            ? "select" : "other";
+                }
+                if ("select".equals(kind)) {
+                    selectByValue(selector, fields.get(selector));
+                } else {
+                    enterText(selector, fields.get(selector));
+                }
+            }
+        });
+    }
+
+    /**
+     * Start a batch that mixes plain fields with custom widget actions.
+     *
+     * Consecutive text fields are sent in one fillAll() call; a widget action
+     * first flushes the fields queued before it, so the order is kept.
+     *
+     * Example:
+     *   form.batch()
+     *       .text("input[name='name']", "Ravi")
+     *       .text("input[name='mobileNumber']", "9999999999")
+     *       .select("#gender-dropdown", "text=Male")
+     *       .check("#terms")
+     *       .text("textarea[name='address']", "Street 1")
+     *       .apply();
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Ordered list of form steps built by batch().
+     */
+    public final class Batch {
+
+        private final List<Runnable> steps = new ArrayList<>();
+        private Map<String, String> pending = new LinkedHashMap<>();
+
+        private Batch() {
+        }
+
+        public Batch text(String selector, String value) {
+            pending.put(selector, value);
+            return this;
+        }
+
+        public Batch select(String dropdownSelector, String optionSelector) {
+            return action(() -> clickAndSelect(dropdownSelector, optionSelector));
+        }
+
+        public Batch check(String selector) {
+            return action(() -> FormHelper.this.check(selector));
+        }
+
+        public Batch click(String selector) {
+            return action(() -> FormHelper.this.click(selector));
+        }
+
+        /**
+         * Any other per-field action (date pickers, uploads, page object calls).
+         */
+        public Batch action(Runnable action) {
+            flushPending();
+            steps.add(action);
+            return this;
+        }
+
+        /**
+         * Run the steps in order.
+         */
+        public void apply() {
+            flushPending();
+            steps.forEach(Runnable::run);
+            steps.clear();
+        }
+
+        private void flushPending() {
+            if (!pending.isEmpty()) {
+                Map<String, String> fields = pending;
+                steps.add(() -> fillAll(fields));
+                pending = new LinkedHashMap<>();
+            }
+        }
+    }
+
+    // ============================================================
+    //                     TIMING
+    // ============================================================
+
+    // Every action is recorded in the StepTimings report
+    private void timed(String action, String selector, Runnable body) {
+        StepTimings.time("FormHelper", action, selector, body);
+    }
+
+    private <T> T timed(String action, String selector, Supplier<T> body) {
+        return StepTimings.time("FormHelper", action, selector, body);
     }
 }
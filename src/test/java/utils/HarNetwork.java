@@ -0,0 +1,211 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+import com.microsoft.playwright.options.HarContentPolicy;
+import com.microsoft.playwright.options.HarNotFound;
+
+/**
+ * HarNetwork - Record backend traffic to HAR files and replay it.
+ *
+ * record  Every test context writes its API traffic to hars/ClassName/methodName.har
+ *         (written when the context is closed).
+ * replay  API calls are answered from all HAR files of the test class instead of
+ *         the network, so the suite runs at CPU speed with comparable timings.
+ * live    Normal network access (default).
+ *
+ * Matching in replay mode (HAR_MATCH):
+ *   url   Method and URL only (default). Recorded responses for the same URL
+ *         are replayed in order (the last one repeats). Needed for DIGIT,
+ *         whose RequestInfo carries timestamps and message ids in every body.
+ *   body  Playwright's routeFromHAR: method, URL and POST body must match.
+ *
+ * A request matching HAR_URL_PATTERN without a recording is logged with the
+ * running test and aborted, so a replay run never reaches the backend
+ * unnoticed. HAR_NOT_FOUND=fallback sends such requests to the network instead
+ * (still logged).
+ *
+ * Config (.env):
+ *   NETWORK_MODE=replay        record | replay | live (default live)
+ *   HAR_DIR=hars               Where HAR files are kept
+ *   HAR_URL_PATTERN=<regex>    Which URLs are recorded/replayed (default: DIGIT API paths)
+ *   HAR_MATCH=url              url | body (default url)
+ *   HAR_NOT_FOUND=abort        abort | fallback (go to network), for unmatched requests (default abort)
+ */
+public final class HarNetwork {
+
+    public enum Mode { LIVE, RECORD, REPLAY }
+
+    private static final String DEFAULT_URL_PATTERN =
+            ".*/(user|pgr-services|project-factory|boundary-service|egov-mdms-service|mdms-v2|localization|egov-hrms)/.*";
+
+    // Headers that no longer describe the decoded body stored in the HAR
+    private static final List<String> DROPPED_HEADERS = List.of("content-encoding", "content-length", "transfer-encoding");
+
+    private HarNetwork() {
+    }
+
+    public static Mode mode() {
+        return Mode.valueOf(ConfigReader.get("NETWORK_MODE", "live").trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Add HAR recording to the options of a new context (record mode only).
+     */
+    public static void configure(Browser.NewContextOptions options, String className, String methodName) {
+        if (mode() != Mode.RECORD) {
+            return;
+        }
+        Path har = classDir(className).resolve(methodName + ".har");
+        try {
+            Files.createDirectories(har.getParent());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create HAR directory " + har.getParent(), e);
+        }
+        options.setRecordHarPath(har)
+                .setRecordHarContent(HarContentPolicy.EMBED)
+                .setRecordHarUrlFilter(urlPattern());
+    }
+
+    /**
+     * Serve the class's recorded traffic to a new context (replay mode only).
+     */
+    public static void attach(BrowserContext context, String className) {
+        if (mode() != Mode.REPLAY) {
+            return;
+        }
+        List<Path> hars = harsOf(className);
+        if (hars.isEmpty()) {
+            throw new IllegalStateException("NETWORK_MODE=replay but no HAR files in " + classDir(className)
+                    + " - run once with NETWORK_MODE=record");
+        }
+        boolean abort = !"fallback".equalsIgnoreCase(ConfigReader.get("HAR_NOT_FOUND", "abort"));
+        if ("body".equalsIgnoreCase(ConfigReader.get("HAR_MATCH", "url"))) {
+            // Registered first so it runs last: receives what no HAR file matched
+            context.route(urlPattern(), route -> notFound(route, abort));
+            for (Path har : hars) {
+                context.routeFromHAR(har, new BrowserContext.RouteFromHAROptions()
+                        .setUrl(urlPattern())
+                        .setNotFound(HarNotFound.FALLBACK));
+            }
+        } else {
+            UrlReplay replay = new UrlReplay(hars);
+            context.route(urlPattern(), route -> replay.handle(route, abort));
+        }
+    }
+
+    /**
+     * A request with no recording: log it and abort it, or let it go to the network.
+     */
+    private static void notFound(Route route, boolean abort) {
+        System.out.printf("HAR replay miss in %s: %s %s (%s)%n", CurrentTest.name(), route.request().method(),
+                route.request().url(), abort ? "aborted" : "sent to network");
+        if (abort) {
+            route.abort();
+        } else {
+            route.fallback();
+        }
+    }
+
+    private static Pattern urlPattern() {
+        return Pattern.compile(ConfigReader.get("HAR_URL_PATTERN", DEFAULT_URL_PATTERN));
+    }
+
+    private static Path classDir(String className) {
+        return Paths.get(ConfigReader.get("HAR_DIR", "hars"), className);
+    }
+
+    private static List<Path> harsOf(String className) {
+        List<Path> hars = new ArrayList<>();
+        Path dir = classDir(className);
+        if (!Files.isDirectory(dir)) {
+            return hars;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.har")) {
+            files.forEach(hars::add);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not list HAR files in " + dir, e);
+        }
+        return hars;
+    }
+
+    /**
+     * Replays recorded responses matched on method and URL only.
+     */
+    private static final class UrlReplay {
+
+        private final Map<String, Deque<Route.FulfillOptions>> responses = new HashMap<>();
+
+        UrlReplay(List<Path> hars) {
+            for (Path har : hars) {
+                load(har);
+            }
+        }
+
+        synchronized void handle(Route route, boolean abort) {
+            Deque<Route.FulfillOptions> queue = responses.get(key(route.request().method(), route.request().url()));
+            if (queue == null || queue.isEmpty()) {
+                notFound(route, abort);
+                return;
+            }
+            route.fulfill(queue.size() > 1 ? queue.poll() : queue.peek());
+        }
+
+        private void load(Path har) {
+            try {
+                JsonObject log = JsonParser.parseString(new String(Files.readAllBytes(har), StandardCharsets.UTF_8))
+                        .getAsJsonObject().getAsJsonObject("log");
+                for (JsonElement element : log.getAsJsonArray("entries")) {
+                    JsonObject entry = element.getAsJsonObject();
+                    JsonObject request = entry.getAsJsonObject("request");
+                    responses.computeIfAbsent(key(request.get("method").getAsString(), request.get("url").getAsString()),
+                            k -> new ArrayDeque<>()).add(toFulfill(entry.getAsJsonObject("response")));
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException("Could not read HAR file " + har, e);
+            }
+        }
+
+        private static Route.FulfillOptions toFulfill(JsonObject response) {
+            Map<String, String> headers = new HashMap<>();
+            for (JsonElement header : response.getAsJsonArray("headers")) {
+                String name = header.getAsJsonObject().get("name").getAsString();
+                if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.put(name, header.getAsJsonObject().get("value").getAsString());
+                }
+            }
+            JsonObject content = response.getAsJsonObject("content");
+            String text = content.has("text") ? content.get("text").getAsString() : "";
+            boolean base64 = content.has("encoding") && "base64".equals(content.get("encoding").getAsString());
+            byte[] body = base64 ? Base64.getDecoder().decode(text) : text.getBytes(StandardCharsets.UTF_8);
+            return new Route.FulfillOptions()
+                    .setStatus(response.get("status").getAsInt())
+                    .setHeaders(headers)
+                    .setBodyBytes(body);
+        }
+
+        private static String key(String method, String url) {
+            return method + " " + url;
+        }
+    }
+}
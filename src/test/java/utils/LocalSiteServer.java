@@ -0,0 +1,136 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * LocalSiteServer - Serves a bundled static stand-in of the DIGIT UI from localhost.
+ *
+ * Files are read from a classpath directory (by default /digit-stub under
+ * src/test/resources). Any path that is not a file gets index.html, like
+ * the real single-page app, so URLs such as /digit-ui/employee/user/login
+ * load the stub and its script picks the screen from location.pathname.
+ * Extra handlers (e.g. stubbed APIs) can be mounted with handle().
+ *
+ * Usage:
+ *   LocalSiteServer server = new LocalSiteServer().start();
+ *   page.navigate(server.url("/digit-ui/employee/user/login"));
+ *   ...
+ *   server.stop();
+ */
+public class LocalSiteServer {
+
+    public static final String DEFAULT_ROOT = "/digit-stub";
+
+    private static final Map<String, String> CONTENT_TYPES = new ConcurrentHashMap<>();
+
+    static {
+        CONTENT_TYPES.put("html", "text/html; charset=utf-8");
+        CONTENT_TYPES.put("js", "application/javascript");
+        CONTENT_TYPES.put("css", "text/css");
+        CONTENT_TYPES.put("json", "application/json");
+        CONTENT_TYPES.put("png", "image/png");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+    }
+
+    private final String resourceRoot;
+    private final HttpServer server;
+
+    public LocalSiteServer() {
+        this(DEFAULT_ROOT, 0);
+    }
+
+    /**
+     * @param resourceRoot Classpath directory with the site files
+     * @param port         Port to listen on (0 = any free port)
+     */
+    public LocalSiteServer(String resourceRoot, int port) {
+        this.resourceRoot = resourceRoot;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not open local server on port " + port, e);
+        }
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-site-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::serveStatic);
+    }
+
+    /**
+     * Mount a handler for every path starting with pathPrefix (longest prefix wins).
+     */
+    public LocalSiteServer handle(String pathPrefix, HttpHandler handler) {
+        server.createContext(pathPrefix, handler);
+        return this;
+    }
+
+    public LocalSiteServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Absolute URL of a path on this server, e.g. url("/digit-ui/employee").
+     */
+    public String url(String path) {
+        return "http://127.0.0.1:" + port() + path;
+    }
+
+    /**
+     * Write a complete response.
+     */
+    public static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void serveStatic(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = read(path);
+        if (body == null || path.endsWith("/")) {
+            // Single-page app: unknown paths render index.html
+            path = "/index.html";
+            body = read(path);
+        }
+        if (body == null) {
+            respond(exchange, 404, "text/plain", new byte[0]);
+            return;
+        }
+        String extension = path.substring(path.lastIndexOf('.') + 1);
+        exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+        respond(exchange, 200, CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"), body);
+    }
+
+    private byte[] read(String path) throws IOException {
+        if (path.contains("..")) {
+            return null;
+        }
+        try (InputStream in = LocalSiteServer.class.getResourceAsStream(resourceRoot + path)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+/**
+ * LocatorCache - One Locator per selector per page, shared by FormHelper and page objects.
+ *
+ * FormHelper and BasePage used to call page.locator(selector) on every
+ * action, building a new Locator (and its selector string work) each time.
+ * Locators are lazy, so the same instance can be reused for as long as the
+ * page shows the same document. The cache is cleared when the main frame
+ * navigates, which keeps it small across SPA flows.
+ *
+ * One instance per page; obtain it with LocatorCache.of(page).
+ *
+ * Usage:
+ *   Locator submit = LocatorCache.of(page).get("#submit");
+ *
+ *   // In page objects (BasePage):
+ *   locator(".digit-back-btn").click();
+ *
+ * Config (.env):
+ *   LOCATOR_CACHE=false    Build a new Locator on every call (default true)
+ */
+public class LocatorCache {
+
+    private static final Map<Page, LocatorCache> caches = new ConcurrentHashMap<>();
+
+    // Totals over all pages of the run
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+    private static final AtomicLong totalInvalidations = new AtomicLong();
+
+    private final Page page;
+    private final boolean enabled;
+    private final Map<String, Locator> locators = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private LocatorCache(Page page) {
+        this.page = page;
+        this.enabled = ConfigReader.getBoolean("LOCATOR_CACHE", true);
+        page.onFrameNavigated(frame -> {
+            if (frame == page.mainFrame()) {
+                invalidate();
+            }
+        });
+        page.onClose(p -> caches.remove(p));
+    }
+
+    /**
+     * Get the cache for a page, attaching it on first use.
+     */
+    public static LocatorCache of(Page page) {
+        return caches.computeIfAbsent(page, LocatorCache::new);
+    }
+
+    /**
+     * Locator for a selector, reused while the page stays on the same document.
+     *
+     * @param selector Any Playwright selector
+     */
+    public Locator get(String selector) {
+        if (!enabled) {
+            misses.incrementAndGet();
+            totalMisses.incrementAndGet();
+            return page.locator(selector);
+        }
+        Locator cached = locators.get(selector);
+        if (cached != null) {
+            hits.incrementAndGet();
+            totalHits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        totalMisses.incrementAndGet();
+        return locators.computeIfAbsent(selector, page::locator);
+    }
+
+    /**
+     * Drop all cached locators of this page.
+     */
+    public void invalidate() {
+        if (!locators.isEmpty()) {
+            locators.clear();
+            totalInvalidations.incrementAndGet();
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Hit/miss totals for the run, or null when no locator was requested.
+     */
+    public static String summary() {
+        long hit = totalHits.get();
+        long miss = totalMisses.get();
+        if (hit + miss == 0) {
+            return null;
+        }
+        return String.format("Locator cache: %d hits, %d misses (%.0f%% hit rate), %d invalidations",
+                hit, miss, 100.0 * hit / (hit + miss), totalInvalidations.get());
+    }
+}
@@ -0,0 +1,150 @@
+package utils;
+
+import java.util.List;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+
+/**
+ * MasterDataCache - Serves MDMS and localization responses from a suite-wide cache.
+ *
+ * The DIGIT UI loads MDMS master data and localization bundles on every login
+ * and module switch. These responses only change when the environment does, so
+ * the first response for a request is kept for the rest of the suite and
+ * replayed to every later context.
+ *
+ * The key is the URL (tenantId, locale and module are query parameters), the
+ * POST body without RequestInfo (which carries the auth token and a timestamp)
+ * and a fingerprint of BASE_URL, TENANT and MASTER_DATA_CACHE_VERSION. Changing
+ * any of those, e.g. with ConfigReader.set() from a listener, starts a fresh
+ * set of entries. Only successful JSON responses are cached. Not installed with
+ * NETWORK_MODE=replay, so replayed runs only ever see the HAR.
+ *
+ * Config (.env):
+ *   MASTER_DATA_CACHE=false        Turn the cache off (default true)
+ *   MASTER_DATA_CACHE_MB=64        Memory limit
+ *   MASTER_DATA_CACHE_VERSION=2    Bump to drop entries after master data changes
+ */
+public final class MasterDataCache {
+
+    private static final List<String> ENDPOINTS = List.of(
+            "/egov-mdms-service/v1/_search",
+            "/mdms-v2/v1/_search",
+            "/mdms-v2/v2/_search",
+            "/localization/messages/v1/_search");
+
+    private static volatile ResponseCache cache;
+
+    private MasterDataCache() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("MASTER_DATA_CACHE", true);
+    }
+
+    /**
+     * Route the context's MDMS and localization calls through the suite cache.
+     */
+    public static void install(BrowserContext context) {
+        // In replay mode the HAR is the source of truth; a miss here would go to the live backend
+        if (!isEnabled() || HarNetwork.mode() == HarNetwork.Mode.REPLAY) {
+            return;
+        }
+        ResponseCache shared = cache();
+        context.route(url -> ENDPOINTS.stream().anyMatch(url::contains), route -> handle(shared, route));
+    }
+
+    /**
+     * Hit/miss summary for the suite, or null when nothing was cached.
+     */
+    public static String summary() {
+        ResponseCache current = cache;
+        return current == null ? null : current.summary();
+    }
+
+    /**
+     * Drop every cached entry (e.g. after a test changes master data).
+     */
+    public static void invalidate() {
+        ResponseCache current = cache;
+        if (current != null) {
+            current.clear();
+        }
+    }
+
+    private static void handle(ResponseCache shared, Route route) {
+        Request request = route.request();
+        String key = ResponseCache.key(fingerprint(), request.method(), request.url(), normalizedBody(request));
+        ResponseCache.Entry hit = shared.get(key);
+        if (hit != null) {
+            route.fulfill(hit.toFulfill());
+            return;
+        }
+        APIResponse response;
+        try {
+            response = route.fetch();
+        } catch (RuntimeException e) {
+            // Backend unreachable, or page closed while fetching: resolve the route so it doesn't hang
+            abort(route);
+            return;
+        }
+        String type = response.headers().getOrDefault("content-type", "");
+        if (response.ok() && type.contains("json")) {
+            shared.put(key, ResponseCache.Entry.of(response));
+        }
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    private static void abort(Route route) {
+        try {
+            route.abort();
+        } catch (RuntimeException ignored) {
+            // Route already handled because the page went away
+        }
+    }
+
+    private static String fingerprint() {
+        return String.join("|",
+                ConfigReader.get("BASE_URL", ""),
+                ConfigReader.get("TENANT", ""),
+                ConfigReader.get("MASTER_DATA_CACHE_VERSION", ""));
+    }
+
+    /**
+     * POST body with RequestInfo removed, so the token and timestamp don't split the key.
+     */
+    private static String normalizedBody(Request request) {
+        String body = request.postData();
+        if (body == null || body.isEmpty()) {
+            return "";
+        }
+        try {
+            JsonElement json = JsonParser.parseString(body);
+            if (json.isJsonObject()) {
+                JsonObject copy = json.getAsJsonObject().deepCopy();
+                copy.remove("RequestInfo");
+                return copy.toString();
+            }
+            return json.toString();
+        } catch (RuntimeException e) {
+            return body;
+        }
+    }
+
+    private static ResponseCache cache() {
+        if (cache == null) {
+            synchronized (MasterDataCache.class) {
+                if (cache == null) {
+                    cache = new ResponseCache("Master data",
+                            ConfigReader.getInt("MASTER_DATA_CACHE_MB", 64) * 1024L * 1024L, 0, null);
+                }
+            }
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,140 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * MockDigitServer - Local DIGIT UI plus stubbed backend APIs for hermetic runs.
+ *
+ * Serves the DIGIT stub screens (see LocalSiteServer) and answers the backend
+ * calls the UI makes with fixed JSON in well under a millisecond:
+ *   /user/oauth/token                      login token
+ *   /pgr-services/...                      complaint create / search
+ *   /project-factory/...                   campaign draft create / update / search
+ *   /boundary-service/...                  boundary hierarchy
+ *   /egov-mdms-service/..., /mdms-v2/...   master data (empty)
+ *   /localization/...                      localization messages (empty)
+ *   /egov-hrms/employees/_create           employee create
+ *
+ * A recorded response can replace any stub: put the JSON body in
+ * src/test/resources/digit-stub/api/ under the same path plus ".json", e.g.
+ *   digit-stub/api/pgr-services/v2/request/_search.json
+ *
+ * Started for the whole suite by MockServerListener when TARGET=mock.
+ *
+ * Usage:
+ *   MockDigitServer mock = new MockDigitServer(0).start();
+ *   page.navigate(mock.baseUrl());
+ *   mock.stop();
+ */
+public class MockDigitServer {
+
+    public static final String APP_PATH = "/digit-ui/employee";
+
+    private static final String[] API_PREFIXES = {
+        "/user/", "/pgr-services/", "/project-factory/", "/boundary-service/",
+        "/egov-mdms-service/", "/mdms-v2/", "/localization/", "/egov-hrms/"
+    };
+
+    private final LocalSiteServer site;
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /**
+     * @param port Port to listen on (0 = any free port)
+     */
+    public MockDigitServer(int port) {
+        site = new LocalSiteServer(LocalSiteServer.DEFAULT_ROOT, port);
+        for (String prefix : API_PREFIXES) {
+            site.handle(prefix, this::serveApi);
+        }
+    }
+
+    public MockDigitServer start() {
+        site.start();
+        return this;
+    }
+
+    public void stop() {
+        site.stop();
+    }
+
+    /**
+     * URL to use as BASE_URL, e.g. http://127.0.0.1:53211/digit-ui/employee
+     */
+    public String baseUrl() {
+        return site.url(APP_PATH);
+    }
+
+    private void serveApi(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String path = exchange.getRequestURI().getPath();
+        String body = recorded(path);
+        if (body == null) {
+            body = stub(path);
+        }
+        LocalSiteServer.respond(exchange, 200, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String recorded(String path) throws IOException {
+        try (InputStream in = MockDigitServer.class.getResourceAsStream(
+                LocalSiteServer.DEFAULT_ROOT + "/api" + path + ".json")) {
+            return in == null ? null : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String stub(String path) {
+        if (path.startsWith("/user/oauth/token")) {
+            return "{\"access_token\":\"mock-token\",\"token_type\":\"bearer\","
+                    + "\"UserRequest\":{\"userName\":\"mock\",\"type\":\"EMPLOYEE\",\"tenantId\":\"mock\"}}";
+        }
+        if (path.startsWith("/pgr-services/") && path.endsWith("_create")) {
+            return "{\"ServiceWrappers\":[{\"service\":{\"serviceRequestId\":\"PGR-MOCK-" + ids.incrementAndGet()
+                    + "\",\"applicationStatus\":\"PENDINGFORASSIGNMENT\"}}]}";
+        }
+        if (path.startsWith("/pgr-services/")) {
+            return "{\"ServiceWrappers\":[]}";
+        }
+        if (path.startsWith("/project-factory/") && (path.endsWith("/create") || path.endsWith("/update"))) {
+            return "{\"CampaignDetails\":{\"id\":\"mock-campaign-" + ids.incrementAndGet() + "\",\"status\":\"drafted\"}}";
+        }
+        if (path.startsWith("/project-factory/")) {
+            return "{\"CampaignDetails\":[]}";
+        }
+        if (path.startsWith("/boundary-service/")) {
+            return boundaryTree();
+        }
+        if (path.startsWith("/egov-hrms/") && path.endsWith("_create")) {
+            return "{\"Employees\":[{\"code\":\"EMP-MOCK-" + ids.incrementAndGet() + "\"}]}";
+        }
+        if (path.startsWith("/localization/")) {
+            return "{\"messages\":[]}";
+        }
+        return "{}";
+    }
+
+    /**
+     * Four-level hierarchy: Country > Province > District > Locality, with
+     * MOCK_BOUNDARY_FANOUT children per node (default 3; 10 gives 1000 localities).
+     */
+    private static String boundaryTree() {
+        StringBuilder json = new StringBuilder("{\"TenantBoundary\":[{\"boundary\":[");
+        json.append(node("COUNTRY", "Mockland", 0, ConfigReader.getInt("MOCK_BOUNDARY_FANOUT", 3)));
+        return json.append("]}]}").toString();
+    }
+
+    private static String node(String type, String code, int depth, int children) {
+        String[] childTypes = {"PROVINCE", "DISTRICT", "LOCALITY"};
+        StringBuilder json = new StringBuilder("{\"code\":\"" + code + "\",\"boundaryType\":\"" + type + "\",\"children\":[");
+        if (depth < childTypes.length) {
+            for (int i = 1; i <= children; i++) {
+                if (i > 1) json.append(',');
+                json.append(node(childTypes[depth], code + "_" + i, depth + 1, children));
+            }
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,48 @@
+package utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Starts the MockDigitServer for the suite when TARGET=mock and points
+ * BASE_URL at it, so LoginPage, HomePage, ComplaintPage and the campaign
+ * pages run against localhost instead of the live environment.
+ *
+ * Config (.env):
+ *   TARGET=mock      mock | live (default live)
+ *   MOCK_PORT=0      Port for the mock server (default: any free port)
+ *   MOCK_BOUNDARY_FANOUT=10   Children per boundary node in the mock hierarchy (default 3)
+ *
+ * Register in the suite XML (before other listeners that read BASE_URL):
+ *   <listeners>
+ *       <listener class-name="utils.MockServerListener"/>
+ *   </listeners>
+ */
+public class MockServerListener implements ISuiteListener {
+
+    private static MockDigitServer server;
+
+    public static boolean isMockTarget() {
+        return "mock".equalsIgnoreCase(ConfigReader.get("TARGET", "live"));
+    }
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (!isMockTarget() || server != null) {
+            return;
+        }
+        server = new MockDigitServer(ConfigReader.getInt("MOCK_PORT", 0)).start();
+        ConfigReader.set("BASE_URL", server.baseUrl());
+        if (ConfigReader.get("USERNAME") == null) ConfigReader.set("USERNAME", "mock");
+        if (ConfigReader.get("PASSWORD") == null) ConfigReader.set("PASSWORD", "mock");
+        System.out.println("Mock DIGIT server started: " + server.baseUrl());
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+}
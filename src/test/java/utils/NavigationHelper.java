@@ -1,11 +1,21 @@
 package utils;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import pages.*;
 
 /**
  * NavigationHelper - Central place for all page navigation.
  *
+ * Every destination is listed in the Route table with its direct URL.
+ * Navigation runs in one of two modes:
+ *   UI     - click through the home page cards, like a user would (default)
+ *   DIRECT - open the route's URL straight away, skipping the home page
+ *
+ * Functional tests keep the default UI mode so the click-through stays
+ * covered; setup code that only needs to reach a screen uses forSetup(),
+ * which defaults to DIRECT.
+ *
  * Usage:
  *   NavigationHelper nav = new NavigationHelper(page);
  *
@@ -13,16 +23,91 @@ import pages.*;
  *   nav.goToHome();
  *   nav.goToCreateComplaint();
  *
+ *   // Fast path for test setup
+ *   nav.forSetup().goToCreateCampaign();
+ *   nav.goToDraftCampaign(TestDataFactory.takeDraftCampaign(), 4);
+ *   nav.withMode(NavigationHelper.Mode.DIRECT).goTo(NavigationHelper.Route.SEARCH_USER);
+ *
  *   // Get page objects
  *   HomePage home = nav.homePage();
  *   ComplaintPage complaint = nav.complaintPage();
+ *
+ * Config (.env):
+ *   NAV_MODE=ui                 Mode of new NavigationHelpers (ui | direct)
+ *   SETUP_NAV_MODE=direct       Mode returned by forSetup() (ui | direct)
+ *   ROUTE_CREATE_COMPLAINT=...  Override the path of any Route (ROUTE_ + route name)
  */
 public class NavigationHelper {
 
+    /**
+     * How to reach a destination.
+     */
+    public enum Mode {
+        UI,
+        DIRECT;
+
+        static Mode fromConfig(String key, Mode defaultMode) {
+            String value = ConfigReader.get(key);
+            return value == null || value.isEmpty() ? defaultMode : Mode.valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    /**
+     * Destinations and their paths below the app's base URL.
+     */
+    public enum Route {
+        HOME("/employee"),
+        CREATE_COMPLAINT("/employee/pgr/create-complaint"),
+        SEARCH_COMPLAINT("/employee/pgr/inbox-v2"),
+        CREATE_USER("/employee/hrms/create"),
+        SEARCH_USER("/employee/hrms/inbox"),
+        CAMPAIGN_HOME("/employee/campaign/campaign-home"),
+        CREATE_CAMPAIGN("/employee/campaign/create-campaign");
+
+        private final String defaultPath;
+
+        Route(String defaultPath) {
+            this.defaultPath = defaultPath;
+        }
+
+        /**
+         * @return Path for this route, e.g. "/employee/pgr/create-complaint"
+         */
+        public String path() {
+            return ConfigReader.get("ROUTE_" + name(), defaultPath);
+        }
+    }
+
     private final Page page;
+    private final Mode mode;
+    private final LocatorCache locators;
 
     public NavigationHelper(Page page) {
+        this(page, Mode.fromConfig("NAV_MODE", Mode.UI));
+    }
+
+    public NavigationHelper(Page page, Mode mode) {
         this.page = page;
+        this.mode = mode;
+        this.locators = LocatorCache.of(page);
+    }
+
+    /**
+     * Same helper with a different navigation mode.
+     */
+    public NavigationHelper withMode(Mode mode) {
+        return mode == this.mode ? this : new NavigationHelper(page, mode);
+    }
+
+    /**
+     * Helper for test setup paths (SETUP_NAV_MODE, default DIRECT).
+     */
+    public NavigationHelper forSetup() {
+        return withMode(Mode.fromConfig("SETUP_NAV_MODE", Mode.DIRECT));
+    }
+
+    public Mode mode() {
+        return mode;
     }
 
     // ==================== QUICK NAVIGATION ====================
@@ -31,9 +116,14 @@ public class NavigationHelper {
      * Navigate to Home page and return HomePage object.
      */
     public HomePage goToHome() {
+        if (mode == Mode.DIRECT) {
+            open(Route.HOME);
+            return new HomePage(page);
+        }
         // Click home button if visible, otherwise use browser back
-        if (page.locator(".digit-topbar-home").isVisible()) {
-            page.locator(".digit-topbar-home").click();
+        Locator homeButton = locators.get(".digit-topbar-home");
+        if (homeButton.isVisible()) {
+            homeButton.click();
         }
         return new HomePage(page);
     }
@@ -42,8 +132,11 @@ public class NavigationHelper {
      * Navigate to Create Complaint page.
      */
     public ComplaintPage goToCreateComplaint() {
-        HomePage home = goToHome();
-        home.navigateToCreateComplaint();
+        if (mode == Mode.DIRECT) {
+            open(Route.CREATE_COMPLAINT);
+        } else {
+            goToHome().navigateToCreateComplaint();
+        }
         return new ComplaintPage(page);
     }
 
@@ -51,24 +144,99 @@ public class NavigationHelper {
      * Navigate to Search Complaint page.
      */
     public void goToSearchComplaint() {
-        HomePage home = goToHome();
-        home.navigateToSearchComplaint();
+        if (mode == Mode.DIRECT) {
+            open(Route.SEARCH_COMPLAINT);
+        } else {
+            goToHome().navigateToSearchComplaint();
+        }
     }
 
     /**
      * Navigate to Create User page.
      */
     public void goToCreateUser() {
-        HomePage home = goToHome();
-        home.navigateToCreateUser();
+        if (mode == Mode.DIRECT) {
+            open(Route.CREATE_USER);
+        } else {
+            goToHome().navigateToCreateUser();
+        }
     }
 
     /**
      * Navigate to Search User page.
      */
     public void goToSearchUser() {
-        HomePage home = goToHome();
-        home.navigateToSearchUser();
+        if (mode == Mode.DIRECT) {
+            open(Route.SEARCH_USER);
+        } else {
+            goToHome().navigateToSearchUser();
+        }
+    }
+
+    /**
+     * Navigate to the campaign home page (campaign creation methods).
+     */
+    public CampaignLandingPage goToCampaignHome() {
+        CampaignLandingPage landing = new CampaignLandingPage(page);
+        if (mode == Mode.DIRECT) {
+            open(Route.CAMPAIGN_HOME);
+        } else {
+            goToHome();
+            landing.clickCreateCampaign();
+            new WaitHelper(page).forUrlContaining(Route.CAMPAIGN_HOME.path());
+        }
+        return landing;
+    }
+
+    /**
+     * Navigate to the first step of the create-campaign wizard.
+     */
+    public BednetDraftCampaignPage goToCreateCampaign() {
+        if (mode == Mode.DIRECT) {
+            open(Route.CREATE_CAMPAIGN);
+        } else {
+            CampaignLandingPage landing = goToCampaignHome();
+            landing.clickScratchCard();
+            landing.clickContinue();
+        }
+        BednetDraftCampaignPage draft = new BednetDraftCampaignPage(page);
+        draft.waitUntilLoaded();
+        return draft;
+    }
+
+    /**
+     * Open an existing draft campaign (e.g. from TestDataFactory.takeDraftCampaign())
+     * at a wizard step, skipping the steps before it: create-campaign?key=<step>&id=<id>.
+     */
+    public BednetDraftCampaignPage goToDraftCampaign(String campaignId, int step) {
+        page.navigate(urlOf(Route.CREATE_CAMPAIGN) + "?key=" + step + "&id=" + campaignId);
+        NetworkWaiter.of(page).waitForIdle();
+        return new BednetDraftCampaignPage(page);
+    }
+
+    /**
+     * Navigate to any route using the current mode.
+     */
+    public void goTo(Route route) {
+        switch (route) {
+            case HOME: goToHome(); break;
+            case CREATE_COMPLAINT: goToCreateComplaint(); break;
+            case SEARCH_COMPLAINT: goToSearchComplaint(); break;
+            case CREATE_USER: goToCreateUser(); break;
+            case SEARCH_USER: goToSearchUser(); break;
+            case CAMPAIGN_HOME: goToCampaignHome(); break;
+            case CREATE_CAMPAIGN: goToCreateCampaign(); break;
+            default: throw new IllegalArgumentException("Unknown route: " + route);
+        }
+    }
+
+    /**
+     * Full URL of a route, built from the current page's base URL
+     * (everything before "/employee").
+     */
+    public String urlOf(Route route) {
+        String baseUrl = page.url().split("/employee")[0];
+        return baseUrl + route.path();
     }
 
     // ==================== PAGE OBJECT GETTERS ====================
@@ -97,6 +265,14 @@ public class NavigationHelper {
 
     // ==================== UTILITY ====================
 
+    /**
+     * Open a route's URL directly and wait for its API calls to settle.
+     */
+    private void open(Route route) {
+        page.navigate(urlOf(route));
+        NetworkWaiter.of(page).waitForIdle();
+    }
+
     /**
      * Go back to previous page.
      */
@@ -128,9 +304,9 @@ public class NavigationHelper {
     }
 
     /**
-     * Wait for page to load completely.
+     * Wait for page to load completely (no backend call in flight).
      */
     public void waitForPageLoad() {
-        page.waitForLoadState();
+        NetworkWaiter.of(page).waitForIdle();
     }
 }
@@ -0,0 +1,198 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+
+/**
+ * NetworkWaiter - Waits on DIGIT backend calls instead of the generic load state.
+ *
+ * In a React SPA page.waitForLoadState() either returns immediately (no
+ * document load happens on route changes) or waits for unrelated resources.
+ * This helper tracks in-flight XHR/fetch requests of a page, so a page
+ * object can wait for exactly the API it depends on, or for the network to
+ * go quiet. Every finished call's latency is recorded.
+ *
+ * One instance per page; obtain it with NetworkWaiter.of(page). BaseTest
+ * attaches it as soon as the page is created so no request is missed.
+ *
+ * Usage:
+ *   NetworkWaiter network = NetworkWaiter.of(page);
+ *
+ *   // Wait for a specific API triggered by an action
+ *   network.waitForResponse("/pgr-services/v2/request/_create", () -> submitButton.click());
+ *
+ *   // Wait until no XHR/fetch has been in flight for 200 ms
+ *   network.waitForIdle();
+ *
+ *   // Latencies of the calls made so far
+ *   network.calls().forEach(System.out::println);
+ *
+ * Config (.env):
+ *   NETWORK_IDLE_MS=200    Quiet period for waitForIdle() (default 200)
+ *   WAIT_TIMEOUT=30000     Maximum time to wait (shared with WaitHelper)
+ */
+public class NetworkWaiter {
+
+    private static final Map<Page, NetworkWaiter> waiters = new ConcurrentHashMap<>();
+
+    private static final int POLL_INTERVAL_MS = 50;
+
+    private final Page page;
+    private final int timeoutMs;
+    private final Map<Request, Long> inFlight = new ConcurrentHashMap<>();
+    private final List<Call> calls = Collections.synchronizedList(new ArrayList<>());
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    /**
+     * A finished API call and how long it took.
+     */
+    public static final class Call {
+
+        public final String method;
+        public final String url;
+        public final long latencyMs;
+        public final boolean failed;
+
+        Call(String method, String url, long latencyMs, boolean failed) {
+            this.method = method;
+            this.url = url;
+            this.latencyMs = latencyMs;
+            this.failed = failed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s %d ms%s", method, url, latencyMs, failed ? " (failed)" : "");
+        }
+    }
+
+    private NetworkWaiter(Page page) {
+        this.page = page;
+        this.timeoutMs = ConfigReader.getInt("WAIT_TIMEOUT", 30000);
+        page.onRequest(this::started);
+        page.onRequestFinished(request -> finished(request, false));
+        page.onRequestFailed(request -> finished(request, true));
+        page.onClose(p -> waiters.remove(p));
+    }
+
+    /**
+     * Get the waiter for a page, attaching it on first use.
+     */
+    public static NetworkWaiter of(Page page) {
+        return waiters.computeIfAbsent(page, NetworkWaiter::new);
+    }
+
+    // ==================== WAITS ====================
+
+    /**
+     * Run an action and wait until an API whose URL contains urlPart responds.
+     *
+     * @param urlPart Part of the API path (e.g. "/pgr-services/v2/request/_create")
+     * @param action  Action that triggers the call
+     * @return The response
+     */
+    public Response waitForResponse(String urlPart, Runnable action) {
+        try {
+            return page.waitForResponse(r -> r.url().contains(urlPart),
+                    new Page.WaitForResponseOptions().setTimeout(timeoutMs), action);
+        } catch (PlaywrightException e) {
+            throw new WaitTimeoutException(String.format("No response from %s within %d ms (test: %s, url: %s)",
+                    urlPart, timeoutMs, CurrentTest.name(), page.url()), e);
+        }
+    }
+
+    /**
+     * Wait until no XHR/fetch request has been in flight for the configured quiet period.
+     */
+    public void waitForIdle() {
+        waitForIdle(ConfigReader.getInt("NETWORK_IDLE_MS", 200));
+    }
+
+    /**
+     * Wait until no XHR/fetch request has been in flight for quietMs.
+     *
+     * @param quietMs Quiet period in milliseconds
+     */
+    public void waitForIdle(int quietMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!inFlight.isEmpty() || System.currentTimeMillis() - lastActivity < quietMs) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new WaitTimeoutException(String.format(
+                        "Network not idle after %d ms, still waiting on: %s (test: %s, url: %s)",
+                        timeoutMs, pendingUrls(), CurrentTest.name(), page.url()));
+            }
+            // waitForTimeout (not Thread.sleep) so request events keep being dispatched
+            page.waitForTimeout(POLL_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Run an action, then wait for the network to go quiet.
+     */
+    public void runAndWaitForIdle(Runnable action) {
+        lastActivity = System.currentTimeMillis();
+        action.run();
+        waitForIdle();
+    }
+
+    // ==================== METRICS ====================
+
+    /**
+     * @return Number of XHR/fetch requests currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return Finished API calls in completion order
+     */
+    public List<Call> calls() {
+        synchronized (calls) {
+            return new ArrayList<>(calls);
+        }
+    }
+
+    /**
+     * @return Finished calls whose URL contains urlPart
+     */
+    public List<Call> calls(String urlPart) {
+        return calls().stream().filter(c -> c.url.contains(urlPart)).collect(Collectors.toList());
+    }
+
+    // ==================== INTERNAL ====================
+
+    private void started(Request request) {
+        if (isApiCall(request)) {
+            inFlight.put(request, System.nanoTime());
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    private void finished(Request request, boolean failed) {
+        Long start = inFlight.remove(request);
+        if (start != null) {
+            long latencyMs = (System.nanoTime() - start) / 1_000_000;
+            calls.add(new Call(request.method(), request.url(), latencyMs, failed));
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    private static boolean isApiCall(Request request) {
+        String type = request.resourceType();
+        return "xhr".equals(type) || "fetch".equals(type);
+    }
+
+    private String pendingUrls() {
+        return inFlight.keySet().stream().map(Request::url).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,177 @@
+package utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.testng.SkipException;
+
+/**
+ * Circuit breaker for shared test preconditions (login, opening the campaign
+ * wizard, ...).
+ *
+ * Setup steps run through a named precondition. Once that precondition has
+ * failed PRECONDITION_MAX_FAILURES times in a row, every later test that
+ * needs it is skipped straight away with the original error as the reason,
+ * instead of waiting out the same timeouts again. A success resets the count,
+ * so a single flaky failure does not skip anything.
+ *
+ * BaseTest.setup() checks every precondition a test class lists in
+ * preconditions() before opening a context, so a test whose @BeforeMethods go
+ * through "login" and then "campaign.create" is skipped at once when either
+ * is open.
+ *
+ * Usage:
+ *   // Run a setup step as a precondition
+ *   PreconditionBreaker.run("campaign.create", () -> nav.forSetup().goToCreateCampaign());
+ *
+ *   // Skip early, before any setup cost, if the precondition is already open
+ *   PreconditionBreaker.check("login");
+ *
+ * Config (.env):
+ *   PRECONDITION_BREAKER=true         Set false to always run every setup step
+ *   PRECONDITION_MAX_FAILURES=2       Consecutive failures before dependents are skipped
+ */
+public class PreconditionBreaker {
+
+    private static final Map<String, State> states = new ConcurrentHashMap<>();
+
+    private static final class State {
+        int consecutiveFailures;
+        int skipped;
+        String lastError;
+        String lastFailedTest;
+    }
+
+    private PreconditionBreaker() {
+    }
+
+    // ==================== PRECONDITIONS ====================
+
+    /**
+     * Skip the current test if the precondition has failed too often.
+     *
+     * @throws SkipException when the breaker for this precondition is open
+     */
+    public static void check(String name) {
+        if (!isEnabled()) {
+            return;
+        }
+        State state = states.get(name);
+        if (state == null) {
+            return;
+        }
+        String reason;
+        synchronized (state) {
+            if (state.consecutiveFailures < maxFailures()) {
+                return;
+            }
+            state.skipped++;
+            reason = "Precondition '" + name + "' failed " + state.consecutiveFailures
+                    + " times in a row (last in " + state.lastFailedTest + ": " + state.lastError + ")";
+        }
+        throw new SkipException(reason);
+    }
+
+    /**
+     * Run a setup step as a named precondition and record its outcome.
+     *
+     * @return The step's result
+     * @throws SkipException when the breaker for this precondition is already open
+     */
+    public static <T> T run(String name, Supplier<T> step) {
+        check(name);
+        try {
+            T result = step.get();
+            recordSuccess(name);
+            return result;
+        } catch (RuntimeException | Error e) {
+            recordFailure(name, e);
+            throw e;
+        }
+    }
+
+    public static void run(String name, Runnable step) {
+        run(name, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    // ==================== STATE ====================
+
+    public static boolean isOpen(String name) {
+        if (!isEnabled()) {
+            return false;
+        }
+        State state = states.get(name);
+        if (state == null) {
+            return false;
+        }
+        synchronized (state) {
+            return state.consecutiveFailures >= maxFailures();
+        }
+    }
+
+    /**
+     * One line per precondition that failed during the run, or null if none did.
+     */
+    public static String summary() {
+        Map<String, State> failed = new TreeMap<>();
+        states.forEach((name, state) -> {
+            if (state.lastError != null) {
+                failed.put(name, state);
+            }
+        });
+        if (failed.isEmpty()) {
+            return null;
+        }
+        StringBuilder summary = new StringBuilder("Preconditions:");
+        failed.forEach((name, state) -> {
+            synchronized (state) {
+                summary.append(String.format("%n  %s: %s, %d consecutive failures, %d tests skipped, last error: %s",
+                        name, state.consecutiveFailures >= maxFailures() ? "OPEN" : "closed",
+                        state.consecutiveFailures, state.skipped, state.lastError));
+            }
+        });
+        return summary.toString();
+    }
+
+    // ==================== INTERNALS ====================
+
+    private static void recordSuccess(String name) {
+        State state = states.get(name);
+        if (state != null) {
+            synchronized (state) {
+                state.consecutiveFailures = 0;
+            }
+        }
+    }
+
+    private static void recordFailure(String name, Throwable error) {
+        State state = states.computeIfAbsent(name, k -> new State());
+        synchronized (state) {
+            state.consecutiveFailures++;
+            state.lastError = firstLine(error);
+            state.lastFailedTest = CurrentTest.name();
+        }
+    }
+
+    private static String firstLine(Throwable error) {
+        String message = error.getMessage();
+        if (message == null || message.isBlank()) {
+            return error.getClass().getSimpleName();
+        }
+        int newline = message.indexOf('\n');
+        return error.getClass().getSimpleName() + ": " + (newline < 0 ? message : message.substring(0, newline));
+    }
+
+    private static boolean isEnabled() {
+        return ConfigReader.getBoolean("PRECONDITION_BREAKER", true);
+    }
+
+    private static int maxFailures() {
+        return Math.max(1, ConfigReader.getInt("PRECONDITION_MAX_FAILURES", 2));
+    }
+}
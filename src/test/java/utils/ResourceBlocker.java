@@ -0,0 +1,236 @@
+package utils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+
+/**
+ * Blocks resources that functional tests do not need (analytics, map tiles,
+ * images, media, web fonts) to cut page weight and Chrome memory.
+ *
+ * Profiles:
+ *   FULL      Nothing blocked (default)
+ *   NO_MEDIA  Images, audio/video, web fonts and map tiles
+ *   MINIMAL   NO_MEDIA plus analytics/tracking scripts and BLOCK_URL_PATTERNS
+ *
+ * The profile comes from @BlockResources on the test method or class, or
+ * from RESOURCE_PROFILE. Blocked requests are aborted before they leave the
+ * browser, so their size is unknown at that point. The size is taken from the
+ * Content-Length of an earlier unblocked load of the same URL (in this run or
+ * a previous one, kept in .cache/resource-sizes.json). The report written to
+ * reports/resource-blocking.txt lists blocked requests and known bytes saved
+ * per test.
+ *
+ * Config (.env):
+ *   RESOURCE_PROFILE=minimal                 full | no_media | minimal
+ *   BLOCK_URL_PATTERNS=chatbot,feedback-widget   Extra URL fragments blocked by MINIMAL
+ *
+ * Register in the suite XML:
+ *   <listeners>
+ *       <listener class-name="utils.ResourceBlocker"/>
+ *   </listeners>
+ */
+public class ResourceBlocker implements ISuiteListener {
+
+    public enum Profile { FULL, NO_MEDIA, MINIMAL }
+
+    private static final Set<String> MEDIA_TYPES = Set.of("image", "media", "font");
+
+    private static final List<String> MAP_TILE_HOSTS = List.of(
+            "tile.openstreetmap.org", "tiles.mapbox.com", "api.mapbox.com", "maps.googleapis.com",
+            "maps.gstatic.com", "/tiles/");
+
+    private static final List<String> TRACKER_HOSTS = List.of(
+            "google-analytics.com", "googletagmanager.com", "doubleclick.net", "hotjar.com",
+            "clarity.ms", "connect.facebook.net", "sentry.io", "newrelic.com", "nr-data.net");
+
+    private static final Path SIZES_FILE = Paths.get(".cache", "resource-sizes.json");
+    private static final Path REPORT_FILE = Paths.get("reports", "resource-blocking.txt");
+    private static final Gson GSON = new Gson();
+
+    private static final Map<String, Long> knownSizes = new ConcurrentHashMap<>();
+    private static final Map<String, Stats> statsByTest = new ConcurrentHashMap<>();
+    private static volatile boolean sizesLoaded;
+
+    private static final class Stats {
+        final Profile profile;
+        final AtomicLong blocked = new AtomicLong();
+        final AtomicLong bytesSaved = new AtomicLong();
+        final AtomicLong unknownSize = new AtomicLong();
+
+        Stats(Profile profile) {
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * Profile from RESOURCE_PROFILE, used when a test has no @BlockResources.
+     */
+    public static Profile configuredProfile() {
+        return Profile.valueOf(ConfigReader.get("RESOURCE_PROFILE", "full").trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Install the profile on a context. Register this after other context routes
+     * (HAR replay, asset cache) so blocked requests never reach them. Blocked
+     * requests are credited to the test testName returns when they happen, as a
+     * reused context serves several tests in turn.
+     */
+    public static void install(BrowserContext context, Profile profile, Supplier<String> testName) {
+        loadSizes();
+        // Learn sizes of blockable resources whenever they are loaded unblocked. Content-Length
+        // comes with the response event, so this costs no extra call to the browser
+        context.onResponse(response -> {
+            try {
+                if (category(response.request(), Profile.MINIMAL) != null) {
+                    long size = Long.parseLong(response.headers().getOrDefault("content-length", "0"));
+                    if (size > 0) {
+                        knownSizes.put(response.url(), size);
+                    }
+                }
+            } catch (RuntimeException ignored) {
+                // No usable size (chunked, malformed header, context closing): don't learn it
+            }
+        });
+        if (profile == Profile.FULL) {
+            return;
+        }
+        context.route(url -> true, route ->
+                handle(route, profile, statsByTest.computeIfAbsent(testName.get(), k -> new Stats(profile))));
+    }
+
+    private static void handle(Route route, Profile profile, Stats stats) {
+        Request request = route.request();
+        if (category(request, profile) == null) {
+            route.fallback();
+            return;
+        }
+        stats.blocked.incrementAndGet();
+        Long size = knownSizes.get(request.url());
+        if (size == null) {
+            stats.unknownSize.incrementAndGet();
+        } else {
+            stats.bytesSaved.addAndGet(size);
+        }
+        route.abort("blockedbyclient");
+    }
+
+    /**
+     * Why a request is blocked under the given profile, or null when it is allowed.
+     */
+    static String category(Request request, Profile profile) {
+        if (profile == Profile.FULL) {
+            return null;
+        }
+        String url = request.url().toLowerCase(Locale.ROOT);
+        if (MEDIA_TYPES.contains(request.resourceType())) {
+            return request.resourceType();
+        }
+        if (MAP_TILE_HOSTS.stream().anyMatch(url::contains)) {
+            return "map";
+        }
+        if (profile == Profile.MINIMAL) {
+            if (TRACKER_HOSTS.stream().anyMatch(url::contains)) {
+                return "analytics";
+            }
+            if (extraPatterns().stream().anyMatch(url::contains)) {
+                return "custom";
+            }
+        }
+        return null;
+    }
+
+    private static List<String> extraPatterns() {
+        String patterns = ConfigReader.get("BLOCK_URL_PATTERNS", "").trim();
+        if (patterns.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(patterns.split(",")).map(s -> s.trim().toLowerCase(Locale.ROOT))
+                .filter(s -> !s.isEmpty()).collect(Collectors.toList());
+    }
+
+    // ==================== SIZE TABLE ====================
+
+    private static void loadSizes() {
+        if (sizesLoaded) {
+            return;
+        }
+        synchronized (ResourceBlocker.class) {
+            if (sizesLoaded) {
+                return;
+            }
+            if (Files.exists(SIZES_FILE)) {
+                try {
+                    Type type = new TypeToken<Map<String, Long>>() { }.getType();
+                    Map<String, Long> stored = GSON.fromJson(
+                            new String(Files.readAllBytes(SIZES_FILE), StandardCharsets.UTF_8), type);
+                    if (stored != null) {
+                        stored.forEach(knownSizes::putIfAbsent);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    System.out.println("Could not read resource sizes: " + e.getMessage());
+                }
+            }
+            sizesLoaded = true;
+        }
+    }
+
+    // ==================== REPORT ====================
+
+    @Override
+    public void onFinish(ISuite suite) {
+        try {
+            if (!knownSizes.isEmpty()) {
+                Files.createDirectories(SIZES_FILE.getParent());
+                Files.write(SIZES_FILE, GSON.toJson(new TreeMap<>(knownSizes)).getBytes(StandardCharsets.UTF_8));
+            }
+            if (!statsByTest.isEmpty()) {
+                Files.createDirectories(REPORT_FILE.getParent());
+                Files.write(REPORT_FILE, buildReport());
+                System.out.println("Resource blocking report saved: " + REPORT_FILE.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write resource blocking report: " + e.getMessage());
+        }
+    }
+
+    private static List<String> buildReport() {
+        List<String> lines = new ArrayList<>();
+        long totalBlocked = 0;
+        long totalSaved = 0;
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(statsByTest).entrySet()) {
+            Stats stats = entry.getValue();
+            totalBlocked += stats.blocked.get();
+            totalSaved += stats.bytesSaved.get();
+            lines.add(String.format("%-60s %-9s %5d blocked, %8.1f KB saved, %d of unknown size",
+                    entry.getKey(), stats.profile, stats.blocked.get(), stats.bytesSaved.get() / 1024.0,
+                    stats.unknownSize.get()));
+        }
+        lines.add(0, String.format("Blocked %d requests, %.1f MB known saved across %d tests",
+                totalBlocked, totalSaved / 1048576.0, statsByTest.size()));
+        return lines;
+    }
+}
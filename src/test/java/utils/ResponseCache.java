@@ -0,0 +1,258 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Route;
+
+/**
+ * ResponseCache - Size-bounded LRU of HTTP responses shared by all browser contexts.
+ *
+ * Entries expire after a TTL. When a disk directory is given, entries are
+ * also written there (body + JSON metadata, file names are the SHA-256 of
+ * the key) so later runs start warm. Methods are synchronized because route
+ * handlers of different BrowserPool leases run on different threads.
+ *
+ * Usage:
+ *   ResponseCache cache = new ResponseCache("assets", 64 * 1024 * 1024, 60 * 60 * 1000, null);
+ *   String key = ResponseCache.key(request.method(), request.url());
+ *   ResponseCache.Entry hit = cache.get(key);
+ *   if (hit != null) route.fulfill(hit.toFulfill());
+ */
+public class ResponseCache {
+
+    // Headers that no longer describe a body that Playwright has already decoded
+    private static final List<String> DROPPED_HEADERS = List.of("content-encoding", "content-length", "transfer-encoding");
+
+    private static final Gson GSON = new Gson();
+
+    private final String name;
+    private final long maxBytes;
+    private final long ttlMs;
+    private final Path diskDir;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long bytesServed;
+
+    /**
+     * A cached response.
+     */
+    public static final class Entry {
+        final int status;
+        final Map<String, String> headers;
+        final long storedAt;
+        transient byte[] body;
+
+        public Entry(int status, Map<String, String> headers, byte[] body) {
+            this(status, headers, body, System.currentTimeMillis());
+        }
+
+        private Entry(int status, Map<String, String> headers, byte[] body, long storedAt) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.storedAt = storedAt;
+        }
+
+        /**
+         * Copy a fetched response, dropping transfer headers.
+         */
+        public static Entry of(APIResponse response) {
+            Map<String, String> headers = new HashMap<>();
+            response.headers().forEach((name, value) -> {
+                if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.put(name, value);
+                }
+            });
+            return new Entry(response.status(), headers, response.body());
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public byte[] body() {
+            return body;
+        }
+
+        public Route.FulfillOptions toFulfill() {
+            return new Route.FulfillOptions().setStatus(status).setHeaders(headers).setBodyBytes(body);
+        }
+    }
+
+    /**
+     * @param name     Label used in summary()
+     * @param maxBytes Upper bound for the bodies kept in memory
+     * @param ttlMs    Entry lifetime, 0 or less = no expiry
+     * @param diskDir  Directory for a persistent copy, or null for memory only
+     */
+    public ResponseCache(String name, long maxBytes, long ttlMs, Path diskDir) {
+        this.name = name;
+        this.maxBytes = maxBytes;
+        this.ttlMs = ttlMs;
+        this.diskDir = diskDir;
+    }
+
+    /**
+     * Build a cache key from its parts (method, URL, relevant headers, body...).
+     */
+    public static String key(String... parts) {
+        return String.join("\n", parts);
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Get a live entry, or null (counted as a miss).
+     */
+    public synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null && diskDir != null) {
+            entry = readDisk(key);
+            if (entry != null) {
+                store(key, entry);
+            }
+        }
+        if (entry != null && expired(entry)) {
+            remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        bytesServed += entry.body.length;
+        return entry;
+    }
+
+    public synchronized void put(String key, Entry entry) {
+        if (entry.body.length > maxBytes) {
+            return;
+        }
+        store(key, entry);
+        if (diskDir != null) {
+            writeDisk(key, entry);
+        }
+    }
+
+    public synchronized void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.body.length;
+        }
+        if (diskDir != null) {
+            try {
+                Files.deleteIfExists(diskDir.resolve(hash(key) + ".bin"));
+                Files.deleteIfExists(diskDir.resolve(hash(key) + ".json"));
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    // ==================== STATS ====================
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long bytesServed() {
+        return bytesServed;
+    }
+
+    public synchronized String summary() {
+        return String.format("%s cache: %d hits, %d misses, %d evictions, %.1f MB served, %d entries (%.1f MB)",
+                name, hits, misses, evictions, bytesServed / 1048576.0, entries.size(), bytes / 1048576.0);
+    }
+
+    // ==================== INTERNALS ====================
+
+    private boolean expired(Entry entry) {
+        return ttlMs > 0 && System.currentTimeMillis() - entry.storedAt > ttlMs;
+    }
+
+    private void store(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= previous.body.length;
+        }
+        bytes += entry.body.length;
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().body.length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private Entry readDisk(String key) {
+        String hash = hash(key);
+        Path meta = diskDir.resolve(hash + ".json");
+        Path body = diskDir.resolve(hash + ".bin");
+        if (!Files.exists(meta) || !Files.exists(body)) {
+            return null;
+        }
+        try {
+            Entry stored = GSON.fromJson(new String(Files.readAllBytes(meta), StandardCharsets.UTF_8), Entry.class);
+            return new Entry(stored.status, stored.headers, Files.readAllBytes(body), stored.storedAt);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void writeDisk(String key, Entry entry) {
+        String hash = hash(key);
+        try {
+            Files.createDirectories(diskDir);
+            writeAtomically(diskDir.resolve(hash + ".bin"), entry.body);
+            writeAtomically(diskDir.resolve(hash + ".json"), GSON.toJson(entry).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Could not write " + name + " cache entry: " + e.getMessage());
+        }
+    }
+
+    private static void writeAtomically(Path target, byte[] data) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(tmp, data);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
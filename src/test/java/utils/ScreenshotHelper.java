@@ -2,6 +2,7 @@ package utils;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotType;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -13,10 +14,23 @@ import java.time.format.DateTimeFormatter;
  * Utility class for capturing screenshots during test execution.
  * Screenshots are saved to the 'screenshots' directory in the project root.
  *
+ * By default the image is captured as bytes and written to disk by the
+ * background ScreenshotWriter, so the returned path may not exist until the
+ * writer catches up (it is flushed at suite end, or call ScreenshotWriter.flush()).
+ *
  * Usage:
  *   ScreenshotHelper screenshot = new ScreenshotHelper(page);
  *   screenshot.capture("my-screenshot");
  *   screenshot.captureOnFailure("LoginTest", "testLogin");
+ *
+ * With SCREENSHOT_STORE=cas, images are deduplicated by content instead
+ * (see ScreenshotStore) and the returned path points to the shared image.
+ *
+ * Config (.env):
+ *   SCREENSHOT_ASYNC=true       Write files on a background thread (default true)
+ *   SCREENSHOT_STORE=flat       flat | cas (default flat)
+ *   SCREENSHOT_FORMAT=jpeg      png | jpeg (default png)
+ *   SCREENSHOT_QUALITY=80       JPEG quality 0-100 (default 80)
  */
 public class ScreenshotHelper {
 
@@ -24,6 +38,11 @@ public class ScreenshotHelper {
     private static final String SCREENSHOT_DIR = "screenshots";
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
 
+    private final boolean async = ConfigReader.getBoolean("SCREENSHOT_ASYNC", true);
+    private final boolean jpeg = "jpeg".equalsIgnoreCase(ConfigReader.get("SCREENSHOT_FORMAT", "png"));
+    private final int quality = ConfigReader.getInt("SCREENSHOT_QUALITY", 80);
+    private final boolean deduplicate = ScreenshotStore.isEnabled();
+
     public ScreenshotHelper(Page page) {
         this.page = page;
         createScreenshotDirectory();
@@ -46,13 +65,10 @@ public class ScreenshotHelper {
      */
     public Path capture(String name) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = String.format("%s_%s.png", name, timestamp);
+        String fileName = String.format("%s_%s.%s", name, timestamp, extension());
         Path path = Paths.get(SCREENSHOT_DIR, fileName);
 
-        page.screenshot(new Page.ScreenshotOptions().setPath(path));
-        System.out.println("Screenshot saved: " + path.toAbsolutePath());
-
-        return path;
+        return savePage(path, name, false);
     }
 
     /**
@@ -63,15 +79,10 @@ public class ScreenshotHelper {
      */
     public Path captureOnFailure(String className, String methodName) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = String.format("FAILED_%s_%s_%s.png", className, methodName, timestamp);
+        String fileName = String.format("FAILED_%s_%s_%s.%s", className, methodName, timestamp, extension());
         Path path = Paths.get(SCREENSHOT_DIR, fileName);
 
-        page.screenshot(new Page.ScreenshotOptions()
-                .setPath(path)
-                .setFullPage(true));
-
-        System.out.println("Failure screenshot saved: " + path.toAbsolutePath());
-        return path;
+        return savePage(path, "FAILED", true);
     }
 
     /**
@@ -81,15 +92,10 @@ public class ScreenshotHelper {
      */
     public Path captureFullPage(String name) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = String.format("%s_fullpage_%s.png", name, timestamp);
+        String fileName = String.format("%s_fullpage_%s.%s", name, timestamp, extension());
         Path path = Paths.get(SCREENSHOT_DIR, fileName);
 
-        page.screenshot(new Page.ScreenshotOptions()
-                .setPath(path)
-                .setFullPage(true));
-
-        System.out.println("Full page screenshot saved: " + path.toAbsolutePath());
-        return path;
+        return savePage(path, name + "_fullpage", true);
     }
 
     /**
@@ -99,14 +105,7 @@ public class ScreenshotHelper {
      * @return Path to the saved screenshot
      */
     public Path captureElement(String selector, String name) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = String.format("%s_element_%s.png", name, timestamp);
-        Path path = Paths.get(SCREENSHOT_DIR, fileName);
-
-        page.locator(selector).screenshot(new Locator.ScreenshotOptions().setPath(path));
-        System.out.println("Element screenshot saved: " + path.toAbsolutePath());
-
-        return path;
+        return captureElement(page.locator(selector), name);
     }
 
     /**
@@ -117,13 +116,19 @@ public class ScreenshotHelper {
      */
     public Path captureElement(Locator locator, String name) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = String.format("%s_element_%s.png", name, timestamp);
+        String fileName = String.format("%s_element_%s.%s", name, timestamp, extension());
         Path path = Paths.get(SCREENSHOT_DIR, fileName);
 
-        locator.screenshot(new Locator.ScreenshotOptions().setPath(path));
-        System.out.println("Element screenshot saved: " + path.toAbsolutePath());
-
-        return path;
+        Locator.ScreenshotOptions options = new Locator.ScreenshotOptions().setType(type());
+        if (jpeg) {
+            options.setQuality(quality);
+        }
+        if (!async && !deduplicate) {
+            locator.screenshot(options.setPath(path));
+            System.out.println("Element screenshot saved: " + path.toAbsolutePath());
+            return path;
+        }
+        return persist(path, name + "_element", locator.screenshot(options));
     }
 
     /**
@@ -134,7 +139,7 @@ public class ScreenshotHelper {
      */
     public Path captureToSubDir(String subDir, String name) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = String.format("%s_%s.png", name, timestamp);
+        String fileName = String.format("%s_%s.%s", name, timestamp, extension());
         Path dirPath = Paths.get(SCREENSHOT_DIR, subDir);
 
         // Create subdirectory if it doesn't exist
@@ -144,10 +149,7 @@ public class ScreenshotHelper {
         }
 
         Path path = dirPath.resolve(fileName);
-        page.screenshot(new Page.ScreenshotOptions().setPath(path));
-        System.out.println("Screenshot saved: " + path.toAbsolutePath());
-
-        return path;
+        return savePage(path, subDir + "/" + name, false);
     }
 
     /**
@@ -157,4 +159,42 @@ public class ScreenshotHelper {
     public static String getScreenshotDirectory() {
         return SCREENSHOT_DIR;
     }
+
+    /**
+     * Take a page screenshot and save it, either through the background writer or directly.
+     *
+     * @param path Target path in flat mode
+     * @param step Step name recorded in the content-addressed index
+     * @return Path of the saved image
+     */
+    private Path savePage(Path path, String step, boolean fullPage) {
+        Page.ScreenshotOptions options = new Page.ScreenshotOptions()
+                .setFullPage(fullPage)
+                .setType(type());
+        if (jpeg) {
+            options.setQuality(quality);
+        }
+        if (!async && !deduplicate) {
+            page.screenshot(options.setPath(path));
+            System.out.println("Screenshot saved: " + path.toAbsolutePath());
+            return path;
+        }
+        return persist(path, step, page.screenshot(options));
+    }
+
+    private Path persist(Path path, String step, byte[] image) {
+        if (deduplicate) {
+            return ScreenshotStore.put(image, extension(), step, async);
+        }
+        ScreenshotWriter.write(path, image);
+        return path;
+    }
+
+    private ScreenshotType type() {
+        return jpeg ? ScreenshotType.JPEG : ScreenshotType.PNG;
+    }
+
+    private String extension() {
+        return jpeg ? "jpg" : "png";
+    }
 }
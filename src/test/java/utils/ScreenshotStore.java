@@ -0,0 +1,104 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed screenshot storage.
+ *
+ * Identical screens (retries, loops, repeated failure captures) are stored
+ * only once: each image is named after the SHA-256 of its bytes and kept
+ * under screenshots/objects/. Every capture, duplicate or not, adds a line to
+ * screenshots/index.csv mapping the test and step to the image:
+ *
+ *   timestamp,class,method,step,hash,file
+ *
+ * Used by ScreenshotHelper when SCREENSHOT_STORE=cas.
+ *
+ * Config (.env):
+ *   SCREENSHOT_STORE=cas    flat (timestamped files, default) | cas (deduplicated)
+ */
+public final class ScreenshotStore {
+
+    private static final Path OBJECTS_DIR = Paths.get(ScreenshotHelper.getScreenshotDirectory(), "objects");
+    private static final Path INDEX_FILE = Paths.get(ScreenshotHelper.getScreenshotDirectory(), "index.csv");
+    private static final String INDEX_HEADER = "timestamp,class,method,step,hash,file";
+
+    private static final Set<String> stored = ConcurrentHashMap.newKeySet();
+
+    private ScreenshotStore() {
+    }
+
+    public static boolean isEnabled() {
+        return "cas".equalsIgnoreCase(ConfigReader.get("SCREENSHOT_STORE", "flat"));
+    }
+
+    /**
+     * Store an image once and record the capture in the index.
+     *
+     * @param image     Image bytes
+     * @param extension File extension ("png" or "jpg")
+     * @param step      Name of the capture (e.g. "FAILED", "after-submit")
+     * @param async     Write through the background ScreenshotWriter
+     * @return Path of the stored image
+     */
+    public static Path put(byte[] image, String extension, String step, boolean async) {
+        String hash = sha256(image);
+        Path object = OBJECTS_DIR.resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+        String indexLine = String.join(",", LocalDateTime.now().toString(), CurrentTest.className(),
+                CurrentTest.methodName(), csv(step), hash, object.toString());
+
+        boolean isNew = stored.add(hash) && !Files.exists(object);
+        Runnable task = () -> {
+            if (isNew && !ScreenshotWriter.save(object, image)) {
+                // Let a later identical capture try again
+                stored.remove(hash);
+            }
+            appendIndex(indexLine);
+        };
+        if (async) {
+            ScreenshotWriter.execute(task);
+        } else {
+            task.run();
+        }
+        return object;
+    }
+
+    private static synchronized void appendIndex(String line) {
+        try {
+            Files.createDirectories(INDEX_FILE.getParent());
+            if (!Files.exists(INDEX_FILE)) {
+                Files.write(INDEX_FILE, (INDEX_HEADER + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            }
+            Files.write(INDEX_FILE, (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.out.println("Could not update screenshot index: " + e.getMessage());
+        }
+    }
+
+    private static String csv(String value) {
+        return value.replace(",", "_");
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(data)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Background writer for screenshots.
+ *
+ * ScreenshotHelper captures the image as bytes on the test thread and hands
+ * it here; a single background thread writes it to disk, so the browser
+ * thread never waits on file I/O.
+ *
+ * The queue is bounded. When it is full the capturing thread writes the file
+ * itself, which slows the producer down instead of buffering without limit.
+ * Pending writes are flushed at the end of the suite.
+ *
+ * Config (.env):
+ *   SCREENSHOT_QUEUE=32    Maximum screenshots waiting to be written (default 32)
+ *
+ * Register in the suite XML:
+ *   <listeners>
+ *       <listener class-name="utils.ScreenshotWriter"/>
+ *   </listeners>
+ */
+public class ScreenshotWriter implements ISuiteListener {
+
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, ConfigReader.getInt("SCREENSHOT_QUEUE", 32))),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /**
+     * Queue an image to be written to the given path.
+     */
+    public static void write(Path path, byte[] image) {
+        executor.execute(() -> save(path, image));
+    }
+
+    /**
+     * Run any screenshot-related I/O on the writer thread (same back-pressure as write()).
+     */
+    public static void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Block until every queued screenshot has been written.
+     */
+    public static void flush() {
+        try {
+            // Single worker thread: once this no-op runs, everything queued before it is done
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        flush();
+    }
+
+    /**
+     * Write an image to disk on the calling thread. The bytes go to a temp file
+     * that is moved into place, so the path never holds a half-written image.
+     *
+     * @return false if the image could not be written
+     */
+    static boolean save(Path path, byte[] image) {
+        Path tmp = null;
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, "screenshot", ".tmp");
+            Files.write(tmp, image);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("Screenshot saved: " + path.toAbsolutePath());
+            return true;
+        } catch (IOException e) {
+            System.out.println("Could not save screenshot " + path + ": " + e.getMessage());
+            if (tmp != null) {
+                try { Files.deleteIfExists(tmp); } catch (IOException ignored) {}
+            }
+            return false;
+        }
+    }
+}
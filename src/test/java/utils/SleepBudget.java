@@ -0,0 +1,95 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Tracks the fixed sleeps (page.waitForTimeout) that are still left in the suite.
+ *
+ * Every hard sleep made through WaitHelper.sleep() or BasePage.wait() is
+ * recorded against the running test together with its call site. At the end
+ * of the suite a report is written to reports/sleep-budget.txt listing, per
+ * test, how many sleeps it made and how much time they cost.
+ *
+ * Register in the suite XML:
+ *   <listeners>
+ *       <listener class-name="utils.SleepBudget"/>
+ *   </listeners>
+ */
+public class SleepBudget implements ISuiteListener {
+
+    private static final String REPORT_DIR = "reports";
+    private static final String REPORT_FILE = "sleep-budget.txt";
+
+    private static final Map<String, List<Sleep>> sleepsByTest = new ConcurrentHashMap<>();
+
+    private static final class Sleep {
+        final String callSite;
+        final long ms;
+
+        Sleep(String callSite, long ms) {
+            this.callSite = callSite;
+            this.ms = ms;
+        }
+    }
+
+    /**
+     * Record a hard sleep for the current test.
+     *
+     * @param ms       Sleep duration
+     * @param callSite Where the sleep was made (e.g. "BoundarySelectionPage.clickDefineTarget:31")
+     */
+    public static void record(long ms, String callSite) {
+        sleepsByTest.computeIfAbsent(CurrentTest.name(), k -> new CopyOnWriteArrayList<>())
+                .add(new Sleep(callSite, ms));
+    }
+
+    /**
+     * Total milliseconds slept by a test so far.
+     */
+    public static long totalFor(String testName) {
+        List<Sleep> sleeps = sleepsByTest.get(testName);
+        return sleeps == null ? 0 : sleeps.stream().mapToLong(s -> s.ms).sum();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Path path = Paths.get(REPORT_DIR, REPORT_FILE);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, buildReport());
+            System.out.println("Sleep budget report saved: " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Could not write sleep budget report: " + e.getMessage());
+        }
+    }
+
+    private static List<String> buildReport() {
+        List<String> lines = new ArrayList<>();
+        long suiteTotal = 0;
+        for (Map.Entry<String, List<Sleep>> entry : new TreeMap<>(sleepsByTest).entrySet()) {
+            long total = entry.getValue().stream().mapToLong(s -> s.ms).sum();
+            suiteTotal += total;
+            lines.add(String.format("%s: %d sleeps, %d ms", entry.getKey(), entry.getValue().size(), total));
+
+            Map<String, Long> bySite = new TreeMap<>();
+            for (Sleep sleep : entry.getValue()) {
+                bySite.merge(sleep.callSite, sleep.ms, Long::sum);
+            }
+            bySite.forEach((site, ms) -> lines.add(String.format("    %-60s %d ms", site, ms)));
+        }
+        lines.add(0, String.format("Hard sleeps remaining: %d ms across %d tests", suiteTotal, sleepsByTest.size()));
+        return lines;
+    }
+}
@@ -0,0 +1,174 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * StepTimings - Times page-object and FormHelper actions.
+ *
+ * Every instrumented action records how long it took, together with the
+ * page class, the selector it acted on and the running test. At the end of
+ * the suite the samples are aggregated per action (count, total, p50, p95,
+ * max) and written to:
+ *   reports/step-timings.json     aggregated, slowest total first
+ *   reports/step-timings.csv      same data as CSV
+ *   reports/step-samples.csv      every single sample, with test name
+ *
+ * Usage (inside a page object or helper):
+ *   StepTimings.time("LoginPage", "login", null, () -> { ... });
+ *   String text = StepTimings.time("FormHelper", "getText", selector, () -> locator.textContent());
+ *
+ * Config (.env):
+ *   STEP_TIMINGS=true    Record timings (default true)
+ *
+ * Register in the suite XML:
+ *   <listeners>
+ *       <listener class-name="utils.StepTimings"/>
+ *   </listeners>
+ */
+public class StepTimings implements ISuiteListener {
+
+    private static final String REPORT_DIR = "reports";
+
+    private static final boolean enabled = ConfigReader.getBoolean("STEP_TIMINGS", true);
+    private static final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    private static final class Sample {
+        final String test;
+        final String owner;
+        final String action;
+        final String selector;
+        final long ms;
+
+        Sample(String test, String owner, String action, String selector, long ms) {
+            this.test = test;
+            this.owner = owner;
+            this.action = action;
+            this.selector = selector == null ? "" : selector;
+            this.ms = ms;
+        }
+
+        String actionKey() {
+            return owner + "|" + action + "|" + selector;
+        }
+    }
+
+    /**
+     * Time an action.
+     *
+     * @param owner    Page object or helper class name (e.g. "ComplaintPage")
+     * @param action   Action name (e.g. "fillForm")
+     * @param selector Selector acted on, or null
+     * @param body     The action
+     */
+    public static void time(String owner, String action, String selector, Runnable body) {
+        time(owner, action, selector, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Time an action that returns a value.
+     */
+    public static <T> T time(String owner, String action, String selector, Supplier<T> body) {
+        if (!enabled) {
+            return body.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            long ms = (System.nanoTime() - start) / 1_000_000;
+            samples.add(new Sample(CurrentTest.name(), owner, action, selector, ms));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (samples.isEmpty()) {
+            return;
+        }
+        try {
+            Path dir = Paths.get(REPORT_DIR);
+            Files.createDirectories(dir);
+            List<Map<String, Object>> summary = summarize();
+            Files.write(dir.resolve("step-timings.json"), new GsonBuilder().setPrettyPrinting().create()
+                    .toJson(summary).getBytes(StandardCharsets.UTF_8));
+            Files.write(dir.resolve("step-timings.csv"), summaryCsv(summary));
+            Files.write(dir.resolve("step-samples.csv"), samplesCsv());
+            System.out.println("Step timing report saved: " + dir.resolve("step-timings.json").toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Could not write step timing report: " + e.getMessage());
+        }
+    }
+
+    private static List<Map<String, Object>> summarize() {
+        Map<String, List<Sample>> byAction = samples.stream()
+                .collect(Collectors.groupingBy(Sample::actionKey));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (List<Sample> group : byAction.values()) {
+            List<Long> durations = group.stream().map(s -> s.ms).sorted().collect(Collectors.toList());
+            Sample first = group.get(0);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("page", first.owner);
+            row.put("action", first.action);
+            row.put("selector", first.selector);
+            row.put("count", durations.size());
+            row.put("totalMs", durations.stream().mapToLong(Long::longValue).sum());
+            row.put("p50Ms", percentile(durations, 50));
+            row.put("p95Ms", percentile(durations, 95));
+            row.put("maxMs", durations.get(durations.size() - 1));
+            row.put("tests", group.stream().map(s -> s.test).distinct().count());
+            rows.add(row);
+        }
+        rows.sort(Comparator.comparing((Map<String, Object> r) -> (Long) r.get("totalMs")).reversed());
+        return rows;
+    }
+
+    /**
+     * Nearest-rank percentile of an ascending list.
+     */
+    private static long percentile(List<Long> sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static List<String> summaryCsv(List<Map<String, Object>> summary) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.join(",", summary.get(0).keySet()));
+        for (Map<String, Object> row : summary) {
+            lines.add(row.values().stream().map(v -> csv(String.valueOf(v))).collect(Collectors.joining(",")));
+        }
+        return lines;
+    }
+
+    private static List<String> samplesCsv() {
+        List<String> lines = new ArrayList<>(Collections.singletonList("test,page,action,selector,ms"));
+        for (Sample s : samples) {
+            lines.add(String.join(",", csv(s.test), csv(s.owner), csv(s.action), csv(s.selector), String.valueOf(s.ms)));
+        }
+        return lines;
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
@@ -0,0 +1,376 @@
+package utils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.FormData;
+import com.microsoft.playwright.options.RequestOptions;
+
+import base.LoginCache;
+
+/**
+ * TestDataFactory - Creates DIGIT test data through the backend APIs instead of the UI.
+ *
+ * Tests that only verify later screens (complaint details, a campaign's
+ * boundary step) can take a ready-made complaint, employee or draft campaign
+ * from here and skip the UI flows that would otherwise create it.
+ *
+ * Requests go through a Playwright APIRequestContext with the logged-in
+ * user's token: the Employee.token saved in the LoginCache storage state, or,
+ * when nobody has logged in yet, a token from /user/oauth/token with
+ * USERNAME/PASSWORD. A token rejected with 401 is refreshed once.
+ *
+ * As a suite listener it pre-creates a pool of complaints and draft campaigns
+ * at suite start; take*() hands those out first and creates more on demand.
+ *
+ * Usage:
+ *   String complaintId = TestDataFactory.takeComplaint();
+ *   String campaignId = TestDataFactory.takeDraftCampaign();
+ *   String employeeCode = TestDataFactory.createEmployee("Test Distributor", "9876543210");
+ *
+ * Config (.env):
+ *   TEST_DATA_POOL_COMPLAINTS=5        Complaints created at suite start (default 0)
+ *   TEST_DATA_POOL_CAMPAIGNS=2         Draft campaigns created at suite start (default 0)
+ *   API_TENANT_ID=mz                   Tenant for created data (default: the user's tenant)
+ *   COMPLAINT_SERVICE_CODE=StreetLightNotWorking
+ *   COMPLAINT_LOCALITY=SUN04           Boundary code for complaint addresses
+ *   CAMPAIGN_PROJECT_TYPE=LLIN-mz      Project type of draft campaigns
+ *   EMPLOYEE_ROLES=CAMPAIGN_MANAGER    Comma separated role codes for created employees
+ *
+ * Register in the suite XML (after MockServerListener, which may set BASE_URL):
+ *   <listeners>
+ *       <listener class-name="utils.TestDataFactory"/>
+ *   </listeners>
+ */
+public class TestDataFactory implements ISuiteListener {
+
+    private static final String OAUTH_CLIENT = "Basic ZWdvdi11c2VyLWNsaWVudDo=";  // egov-user-client:
+
+    private static final Queue<String> complaints = new ConcurrentLinkedQueue<>();
+    private static final Queue<String> campaigns = new ConcurrentLinkedQueue<>();
+
+    // Playwright objects are not thread-safe: every use below is synchronized on the class
+    private static Playwright playwright;
+    private static APIRequestContext request;
+    private static String token;
+    private static boolean tokenFromLoginCache;
+    private static JsonObject userInfo;
+
+    // ==================== SUITE LISTENER ====================
+
+    @Override
+    public void onStart(ISuite suite) {
+        int complaintCount = ConfigReader.getInt("TEST_DATA_POOL_COMPLAINTS", 0);
+        int campaignCount = ConfigReader.getInt("TEST_DATA_POOL_CAMPAIGNS", 0);
+        if (complaintCount + campaignCount == 0) {
+            return;
+        }
+        try {
+            for (int i = 0; i < complaintCount; i++) {
+                complaints.add(createComplaint("Pooled test complaint " + (i + 1)));
+            }
+            for (int i = 0; i < campaignCount; i++) {
+                campaigns.add(createDraftCampaign("PooledCampaign" + System.currentTimeMillis() + i));
+            }
+            System.out.printf("Test data pool ready: %d complaints, %d draft campaigns%n",
+                    complaints.size(), campaigns.size());
+        } catch (RuntimeException e) {
+            // Tests still get data on demand; the UI-created path keeps working
+            System.out.println("Could not warm the test data pool: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (TestDataFactory.class) {
+            if (request != null) {
+                request.dispose();
+            }
+            if (playwright != null) {
+                playwright.close();
+            }
+            request = null;
+            playwright = null;
+            token = null;
+            userInfo = null;
+        }
+    }
+
+    // ==================== POOLED DATA ====================
+
+    /**
+     * A complaint id from the pool, or a newly created one.
+     */
+    public static String takeComplaint() {
+        String id = complaints.poll();
+        return id != null ? id : createComplaint("Test complaint " + System.currentTimeMillis());
+    }
+
+    /**
+     * A draft campaign id from the pool, or a newly created one.
+     */
+    public static String takeDraftCampaign() {
+        String id = campaigns.poll();
+        return id != null ? id : createDraftCampaign("TestCampaign" + System.currentTimeMillis());
+    }
+
+    // ==================== CREATE ====================
+
+    /**
+     * Create a PGR complaint.
+     *
+     * @return serviceRequestId, e.g. "PG-PGR-2026-10-18-000123"
+     */
+    public static synchronized String createComplaint(String description) {
+        JsonObject citizen = new JsonObject();
+        citizen.addProperty("name", "Test Citizen");
+        citizen.addProperty("mobileNumber", "9" + String.format("%09d", System.nanoTime() % 1_000_000_000L));
+
+        JsonObject locality = new JsonObject();
+        locality.addProperty("code", ConfigReader.get("COMPLAINT_LOCALITY", ""));
+        JsonObject address = new JsonObject();
+        address.add("locality", locality);
+        address.add("geoLocation", new JsonObject());
+
+        JsonObject service = new JsonObject();
+        service.addProperty("tenantId", tenantId());
+        service.addProperty("serviceCode", ConfigReader.get("COMPLAINT_SERVICE_CODE", "StreetLightNotWorking"));
+        service.addProperty("description", description);
+        service.addProperty("source", "web");
+        service.add("address", address);
+        service.add("citizen", citizen);
+
+        JsonObject workflow = new JsonObject();
+        workflow.addProperty("action", "CREATE");
+
+        JsonObject body = new JsonObject();
+        body.add("service", service);
+        body.add("workflow", workflow);
+
+        JsonObject response = post("/pgr-services/v2/request/_create", body);
+        return response.getAsJsonArray("ServiceWrappers").get(0).getAsJsonObject()
+                .getAsJsonObject("service").get("serviceRequestId").getAsString();
+    }
+
+    /**
+     * Create an HRMS employee with EMPLOYEE_ROLES.
+     *
+     * @return Employee code
+     */
+    public static synchronized String createEmployee(String name, String mobileNumber) {
+        JsonArray roles = new JsonArray();
+        for (String code : ConfigReader.get("EMPLOYEE_ROLES", "EMPLOYEE").split(",")) {
+            JsonObject role = new JsonObject();
+            role.addProperty("code", code.trim());
+            role.addProperty("name", code.trim());
+            role.addProperty("tenantId", tenantId());
+            roles.add(role);
+        }
+        JsonObject user = new JsonObject();
+        user.addProperty("name", name);
+        user.addProperty("mobileNumber", mobileNumber);
+        user.addProperty("userName", mobileNumber);
+        user.addProperty("gender", "FEMALE");
+        user.addProperty("dob", epochMillis(LocalDate.now().minusYears(30)));
+        user.addProperty("tenantId", tenantId());
+        user.add("roles", roles);
+
+        JsonObject employee = new JsonObject();
+        employee.addProperty("tenantId", tenantId());
+        employee.addProperty("employeeStatus", "EMPLOYED");
+        employee.addProperty("employeeType", "PERMANENT");
+        employee.addProperty("dateOfAppointment", epochMillis(LocalDate.now()));
+        employee.add("user", user);
+        employee.add("assignments", new JsonArray());
+        employee.add("jurisdictions", new JsonArray());
+
+        JsonArray employees = new JsonArray();
+        employees.add(employee);
+        JsonObject body = new JsonObject();
+        body.add("Employees", employees);
+
+        JsonObject response = post("/egov-hrms/employees/_create", body);
+        return response.getAsJsonArray("Employees").get(0).getAsJsonObject().get("code").getAsString();
+    }
+
+    /**
+     * Create a draft campaign (campaign type, name and dates filled; no boundaries yet).
+     *
+     * @return Campaign id, as used in the wizard URL (create-campaign?id=...)
+     */
+    public static synchronized String createDraftCampaign(String campaignName) {
+        JsonObject campaign = new JsonObject();
+        campaign.addProperty("tenantId", tenantId());
+        campaign.addProperty("campaignName", campaignName);
+        campaign.addProperty("projectType", ConfigReader.get("CAMPAIGN_PROJECT_TYPE", "LLIN-mz"));
+        campaign.addProperty("action", "draft");
+        campaign.addProperty("startDate", epochMillis(LocalDate.now().plusDays(1)));
+        campaign.addProperty("endDate", epochMillis(LocalDate.now().plusMonths(1)));
+        campaign.add("boundaries", new JsonArray());
+        campaign.add("resources", new JsonArray());
+        campaign.add("deliveryRules", new JsonArray());
+        campaign.add("additionalDetails", new JsonObject());
+
+        JsonObject body = new JsonObject();
+        body.add("CampaignDetails", campaign);
+
+        JsonObject response = post("/project-factory/v1/project-type/create", body);
+        return response.getAsJsonObject("CampaignDetails").get("id").getAsString();
+    }
+
+    // ==================== HTTP ====================
+
+    /**
+     * POST a DIGIT request (RequestInfo is added) and return the parsed response.
+     * A 401 refreshes the token once; a 403 (usually a missing role) fails as is.
+     */
+    private static JsonObject post(String path, JsonObject body) {
+        APIResponse response = send(path, body);
+        if (response.status() == 401) {
+            // Only an expired token read from the browser login means that login is stale too
+            if (tokenFromLoginCache) {
+                LoginCache.invalidate();
+            }
+            token = null;
+            userInfo = null;
+            response = send(path, body);
+        }
+        String text = response.text();
+        if (!response.ok()) {
+            throw new IllegalStateException(String.format("POST %s failed with %d: %s",
+                    path, response.status(), text.length() > 500 ? text.substring(0, 500) : text));
+        }
+        return JsonParser.parseString(text).getAsJsonObject();
+    }
+
+    private static APIResponse send(String path, JsonObject body) {
+        JsonObject requestInfo = new JsonObject();
+        requestInfo.addProperty("apiId", "Rainmaker");
+        requestInfo.addProperty("authToken", token());
+        requestInfo.addProperty("msgId", System.currentTimeMillis() + "|en_IN");
+        requestInfo.addProperty("plainAccessRequest", UUID.randomUUID().toString());
+        if (userInfo != null) {
+            requestInfo.add("userInfo", userInfo);
+        }
+        JsonObject payload = body.deepCopy();
+        payload.add("RequestInfo", requestInfo);
+        return request().post(path, RequestOptions.create()
+                .setHeader("Content-Type", "application/json")
+                .setData(payload.toString()));
+    }
+
+    private static APIRequestContext request() {
+        if (request == null) {
+            playwright = Playwright.create();
+            request = playwright.request().newContext(new APIRequest.NewContextOptions().setBaseURL(apiOrigin()));
+        }
+        return request;
+    }
+
+    /**
+     * Scheme, host and port of BASE_URL; the DIGIT APIs live at the root.
+     */
+    private static String apiOrigin() {
+        URI uri = URI.create(ConfigReader.get("BASE_URL"));
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    // ==================== AUTH ====================
+
+    private static String token() {
+        if (token == null && !readTokenFromLoginCache()) {
+            requestToken();
+        }
+        return token;
+    }
+
+    /**
+     * Take Employee.token / Employee.user-info from the stored browser login.
+     */
+    private static boolean readTokenFromLoginCache() {
+        Path state = LoginCache.cachedState();
+        if (state == null) {
+            return false;
+        }
+        try {
+            JsonObject json = JsonParser.parseString(
+                    new String(Files.readAllBytes(state), StandardCharsets.UTF_8)).getAsJsonObject();
+            for (JsonElement origin : json.getAsJsonArray("origins")) {
+                for (JsonElement item : origin.getAsJsonObject().getAsJsonArray("localStorage")) {
+                    String name = item.getAsJsonObject().get("name").getAsString();
+                    String value = item.getAsJsonObject().get("value").getAsString();
+                    if ("Employee.token".equals(name)) {
+                        token = value;
+                    } else if ("Employee.user-info".equals(name)) {
+                        userInfo = JsonParser.parseString(value).getAsJsonObject();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Could not read token from login state: " + e.getMessage());
+        }
+        tokenFromLoginCache = token != null;
+        return tokenFromLoginCache;
+    }
+
+    private static void requestToken() {
+        FormData form = FormData.create()
+                .set("username", ConfigReader.get("USERNAME"))
+                .set("password", ConfigReader.get("PASSWORD"))
+                .set("userType", "EMPLOYEE")
+                .set("scope", "read")
+                .set("grant_type", "password");
+        String tenant = ConfigReader.get("API_TENANT_ID", "");
+        if (!tenant.isEmpty()) {
+            form.set("tenantId", tenant);
+        }
+        APIResponse response = request().post("/user/oauth/token", RequestOptions.create()
+                .setHeader("Authorization", OAUTH_CLIENT)
+                .setForm(form));
+        if (!response.ok()) {
+            throw new IllegalStateException("Login for test data failed with " + response.status()
+                    + ": " + response.text());
+        }
+        JsonObject json = JsonParser.parseString(response.text()).getAsJsonObject();
+        token = json.get("access_token").getAsString();
+        userInfo = json.has("UserRequest") ? json.getAsJsonObject("UserRequest") : null;
+    }
+
+    private static String tenantId() {
+        String tenant = ConfigReader.get("API_TENANT_ID", "");
+        if (!tenant.isEmpty()) {
+            return tenant;
+        }
+        token();
+        if (userInfo == null) {
+            // The stored browser login had no user info; the token endpoint returns it
+            requestToken();
+        }
+        if (userInfo != null && userInfo.has("tenantId")) {
+            return userInfo.get("tenantId").getAsString();
+        }
+        throw new IllegalStateException("Set API_TENANT_ID: the logged-in user has no tenantId");
+    }
+
+    private static long epochMillis(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,220 @@
+package utils;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+/**
+ * WaitHelper - Condition-based waits to use instead of fixed sleeps.
+ *
+ * Every wait describes what the page must reach (element state, URL, API
+ * response, spinner gone) and returns as soon as it does. If the condition
+ * is not met within the timeout a WaitTimeoutException is thrown describing
+ * what was awaited and the current URL, instead of a generic Playwright timeout.
+ *
+ * Usage:
+ *   WaitHelper waits = new WaitHelper(page);
+ *
+ *   waits.forVisible("#campaign-name");
+ *   waits.forHidden(".react-datepicker");
+ *   waits.forUrlContaining("/campaign/campaign-home");
+ *   waits.forSpinnerGone();
+ *   waits.forApi("/project-factory/v1/project-type/update", () -> nextButton.click());
+ *   waits.until("Next button enabled", () -> nextButton.isEnabled());
+ *
+ * Config (.env):
+ *   WAIT_TIMEOUT=30000   Default timeout for these waits in ms
+ */
+public class WaitHelper {
+
+    // Loaders rendered by DIGIT UI while a screen is fetching data
+    public static final String SPINNER = ".digit-loader, .loader, .digit-loader-overlay";
+
+    private static final int POLL_INTERVAL_MS = 100;
+
+    private final Page page;
+    private final int timeoutMs;
+
+    public WaitHelper(Page page) {
+        this(page, ConfigReader.getInt("WAIT_TIMEOUT", 30000));
+    }
+
+    public WaitHelper(Page page, int timeoutMs) {
+        this.page = page;
+        this.timeoutMs = timeoutMs;
+    }
+
+    // ==================== ELEMENT STATE ====================
+
+    public void forVisible(String selector) {
+        forState(page.locator(selector), WaitForSelectorState.VISIBLE, selector);
+    }
+
+    public void forVisible(Locator locator) {
+        forState(locator, WaitForSelectorState.VISIBLE, locator.toString());
+    }
+
+    public void forHidden(String selector) {
+        forState(page.locator(selector), WaitForSelectorState.HIDDEN, selector);
+    }
+
+    public void forHidden(Locator locator) {
+        forState(locator, WaitForSelectorState.HIDDEN, locator.toString());
+    }
+
+    public void forAttached(Locator locator) {
+        forState(locator, WaitForSelectorState.ATTACHED, locator.toString());
+    }
+
+    /**
+     * Wait until an element is enabled (e.g. a Next button after validation).
+     */
+    public void forEnabled(Locator locator) {
+        until(locator + " to be enabled", () -> locator.count() > 0 && locator.first().isEnabled());
+    }
+
+    /**
+     * Wait until a locator matches at least the given number of elements
+     * (e.g. options of a dropdown finished loading).
+     */
+    public void forCount(Locator locator, int minCount) {
+        until(locator + " to match at least " + minCount + " elements", () -> locator.count() >= minCount);
+    }
+
+    /**
+     * Wait until an element's text differs from a previous value
+     * (e.g. calendar month header after clicking next).
+     */
+    public void forTextChange(Locator locator, String previousText) {
+        until(locator + " text to change from '" + previousText + "'",
+                () -> !previousText.equals(locator.textContent()));
+    }
+
+    /**
+     * Wait until no DIGIT loading spinner is visible.
+     */
+    public void forSpinnerGone() {
+        Locator visibleSpinners = page.locator(SPINNER + " >> visible=true");
+        until("loading spinner to disappear", () -> visibleSpinners.count() == 0);
+    }
+
+    // ==================== URL ====================
+
+    /**
+     * Wait until the URL matches a glob pattern, as accepted by page.waitForURL().
+     */
+    public void forUrl(String glob) {
+        try {
+            page.waitForURL(glob, new Page.WaitForURLOptions().setTimeout(timeoutMs));
+        } catch (PlaywrightException e) {
+            throw timeout("URL matching " + glob, e);
+        }
+    }
+
+    /**
+     * Wait until the URL contains the given text.
+     */
+    public void forUrlContaining(String urlPart) {
+        until("URL containing '" + urlPart + "'", () -> page.url().contains(urlPart));
+    }
+
+    /**
+     * Wait until the URL is different from a previously captured one.
+     */
+    public void forUrlChange(String previousUrl) {
+        until("URL to change from " + previousUrl, () -> !page.url().equals(previousUrl));
+    }
+
+    // ==================== NETWORK ====================
+
+    /**
+     * Run an action and wait for the response of a DIGIT API call it triggers.
+     *
+     * @param urlPart Part of the API path (e.g. "/pgr-services/v2/request/_create")
+     * @param action  Action that triggers the call (e.g. a button click)
+     * @return The matching response
+     */
+    public Response forApi(String urlPart, Runnable action) {
+        return forResponse("response from " + urlPart, r -> r.url().contains(urlPart), action);
+    }
+
+    public Response forResponse(String description, Predicate<Response> matcher, Runnable action) {
+        try {
+            return page.waitForResponse(matcher, new Page.WaitForResponseOptions().setTimeout(timeoutMs), action);
+        } catch (PlaywrightException e) {
+            throw timeout(description, e);
+        }
+    }
+
+    // ==================== GENERIC ====================
+
+    /**
+     * Poll a condition until it holds.
+     *
+     * @param description What is being awaited (used in the failure message)
+     * @param condition   Condition to check
+     */
+    public void until(String description, BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw timeout(description, null);
+            }
+            // waitForTimeout (not Thread.sleep) so Playwright keeps dispatching page events
+            page.waitForTimeout(POLL_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Fixed sleep. Only for cases no condition can express; every call is
+     * recorded in the SleepBudget report.
+     *
+     * @param ms Milliseconds to sleep
+     */
+    public void sleep(int ms) {
+        SleepBudget.record(ms, callSite());
+        page.waitForTimeout(ms);
+    }
+
+    // ==================== INTERNAL ====================
+
+    private void forState(Locator locator, WaitForSelectorState state, String description) {
+        try {
+            locator.waitFor(new Locator.WaitForOptions().setState(state).setTimeout(timeoutMs));
+        } catch (PlaywrightException e) {
+            throw timeout(description + " to be " + state.name().toLowerCase(), e);
+        }
+    }
+
+    private WaitTimeoutException timeout(String description, Throwable cause) {
+        String message = String.format("Timed out after %d ms waiting for %s (test: %s, url: %s)",
+                timeoutMs, description, CurrentTest.name(), safeUrl());
+        return new WaitTimeoutException(message, cause);
+    }
+
+    private String safeUrl() {
+        try {
+            return page.url();
+        } catch (Exception e) {
+            return "<page closed>";
+        }
+    }
+
+    /**
+     * First stack frame outside the wait helpers, e.g. "BoundarySelectionPage.clickDefineTarget:31".
+     */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(WaitHelper.class.getName())
+                        && !f.getClassName().equals("pages.BasePage"))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+    }
+}
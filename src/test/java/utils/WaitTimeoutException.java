@@ -0,0 +1,19 @@
+package utils;
+
+/**
+ * Thrown by WaitHelper when a readiness condition is not met in time.
+ * The message describes what was awaited and where the page was,
+ * so a failed wait can be diagnosed from the test report alone.
+ */
+public class WaitTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public WaitTimeoutException(String message) {
+        super(message);
+    }
+
+    public WaitTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,173 @@
+package utils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+
+/**
+ * WizardCheckpoints - Resume multi-step wizards instead of replaying them.
+ *
+ * Deep wizard tests (e.g. BoundarySelectionTest) used to walk through every
+ * earlier step in their @BeforeMethod. Once a step has been reached, its
+ * checkpoint captures what is needed to come back to it:
+ *   - the URL of the step
+ *   - localStorage and sessionStorage, where the DIGIT wizard keeps its form data
+ *   - the draft campaign id returned by the backend
+ * Later tests restore that state into their (already logged-in) page and
+ * open the URL directly.
+ *
+ * Checkpoints live for the suite run and are keyed by BASE_URL and USERNAME.
+ *
+ * Usage:
+ *   WizardCheckpoints.watchDraftId(page);             // before creating the draft
+ *   ... walk the wizard ...
+ *   WizardCheckpoints.capture("boundary-selection", page);
+ *
+ *   // in a later test
+ *   if (!WizardCheckpoints.resume("boundary-selection", page)) {
+ *       ... walk the wizard ...
+ *   }
+ *
+ * Config (.env):
+ *   WIZARD_CHECKPOINTS=true    Enable resuming from checkpoints (default true)
+ */
+public final class WizardCheckpoints {
+
+    private static final String CAMPAIGN_API = "/project-factory/v1/project-type/";
+
+    private static final String READ_STORAGE =
+            "() => JSON.stringify({ local: Object.assign({}, localStorage), session: Object.assign({}, sessionStorage) })";
+    private static final String WRITE_STORAGE =
+            "state => { const s = JSON.parse(state);"
+            + " Object.entries(s.local).forEach(([k, v]) => localStorage.setItem(k, v));"
+            + " Object.entries(s.session).forEach(([k, v]) => sessionStorage.setItem(k, v)); }";
+
+    private static final Map<String, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+    private static final Map<Page, String> draftIds = new ConcurrentHashMap<>();
+    private static final Set<Page> watchedPages = ConcurrentHashMap.newKeySet();
+
+    private WizardCheckpoints() {
+    }
+
+    /**
+     * State captured when a wizard step was reached.
+     */
+    public static final class Checkpoint {
+
+        public final String url;
+        public final String storage;
+        public final String draftId;
+
+        Checkpoint(String url, String storage, String draftId) {
+            this.url = url;
+            this.storage = storage;
+            this.draftId = draftId;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("WIZARD_CHECKPOINTS", true);
+    }
+
+    /**
+     * Start recording the draft campaign id from the campaign create/update responses of this page.
+     * Safe to call again for the same page (e.g. a reused context): it is only watched once.
+     */
+    public static void watchDraftId(Page page) {
+        if (!watchedPages.add(page)) {
+            return;
+        }
+        page.onResponse(response -> {
+            if (response.url().contains(CAMPAIGN_API)) {
+                String id = readCampaignId(response);
+                if (id != null) {
+                    draftIds.put(page, id);
+                }
+            }
+        });
+        page.onClose(closed -> {
+            draftIds.remove(closed);
+            watchedPages.remove(closed);
+        });
+    }
+
+    /**
+     * Draft campaign id seen on this page, or null.
+     */
+    public static String draftId(Page page) {
+        return draftIds.get(page);
+    }
+
+    /**
+     * Save the current wizard step under a name.
+     */
+    public static void capture(String name, Page page) {
+        if (!isEnabled()) {
+            return;
+        }
+        String storage = (String) page.evaluate(READ_STORAGE);
+        checkpoints.put(key(name), new Checkpoint(page.url(), storage, draftId(page)));
+    }
+
+    /**
+     * Restore a saved wizard step into the page.
+     *
+     * @param name Checkpoint name
+     * @param page Logged-in page on the app's origin
+     * @return true if the page is now at the checkpoint, false if it must be reached by hand
+     */
+    public static boolean resume(String name, Page page) {
+        Checkpoint checkpoint = isEnabled() ? checkpoints.get(key(name)) : null;
+        if (checkpoint == null) {
+            return false;
+        }
+        page.evaluate(WRITE_STORAGE, checkpoint.storage);
+        page.navigate(checkpoint.url);
+        NetworkWaiter.of(page).waitForIdle();
+
+        // Redirected away (e.g. draft deleted): drop the checkpoint and let the caller replay
+        String expectedPath = checkpoint.url.split("\\?")[0];
+        if (!page.url().startsWith(expectedPath)) {
+            invalidate(name);
+            return false;
+        }
+        if (checkpoint.draftId != null) {
+            draftIds.put(page, checkpoint.draftId);
+        }
+        return true;
+    }
+
+    public static Checkpoint get(String name) {
+        return checkpoints.get(key(name));
+    }
+
+    public static void invalidate(String name) {
+        checkpoints.remove(key(name));
+    }
+
+    private static String key(String name) {
+        return ConfigReader.get("BASE_URL") + "|" + ConfigReader.get("USERNAME") + "|" + name;
+    }
+
+    private static String readCampaignId(Response response) {
+        try {
+            JsonObject body = JsonParser.parseString(response.text()).getAsJsonObject();
+            JsonElement details = body.get("CampaignDetails");
+            if (details != null && details.isJsonArray() && details.getAsJsonArray().size() > 0) {
+                details = details.getAsJsonArray().get(0);
+            }
+            if (details != null && details.isJsonObject() && details.getAsJsonObject().has("id")) {
+                return details.getAsJsonObject().get("id").getAsString();
+            }
+        } catch (Exception ignored) {
+            // Not a JSON campaign response
+        }
+        return null;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Screens of the DIGIT stub. Each screen reproduces the selectors used by
+ * the page objects in src/test/java/pages.
+ */
+(function () {
+    var root = document.getElementById('root');
+    var base = location.pathname.split('/employee')[0];
+
+    function el(tag, attrs, children) {
+        var node = document.createElement(tag);
+        Object.keys(attrs || {}).forEach(function (key) {
+            if (key === 'text') node.textContent = attrs[key];
+            else if (key.indexOf('on') === 0) node.addEventListener(key.substring(2), attrs[key]);
+            else node.setAttribute(key, attrs[key]);
+        });
+        (children || []).forEach(function (child) { node.appendChild(child); });
+        return node;
+    }
+
+    function go(path) {
+        history.pushState({}, '', base + path);
+        render();
+    }
+
+    function api(path, body) {
+        return fetch(base.replace(/\/[^/]*$/, '') + path, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify(body || {})
+        }).then(function (r) { return r.json(); }).catch(function () { return {}; });
+    }
+
+    // DIGIT style dropdown: wrap > options card > items > .main-option
+    function dropdown(id, options, onSelect) {
+        var label = el('span', { 'class': 'digit-dropdown-select', text: 'Select an option' });
+        var wrap = el('div', { 'class': 'digit-dropdown-employee-select-wrap' }, [label]);
+        if (id) wrap.id = id;
+        wrap.addEventListener('click', function (event) {
+            var open = wrap.querySelector('.digit-dropdown-options-card');
+            if (open) {
+                if (event.target.closest('.digit-dropdown-item')) return;
+                open.remove();
+                return;
+            }
+            var card = el('div', { 'class': 'digit-dropdown-options-card' }, options.map(function (text) {
+                return el('div', { 'class': 'digit-dropdown-item', onclick: function (e) {
+                    e.stopPropagation();
+                    label.textContent = text;
+                    card.remove();
+                    if (onSelect) onSelect(text);
+                } }, [el('span', { 'class': 'main-option', text: text })]);
+            }));
+            wrap.appendChild(card);
+        });
+        return wrap;
+    }
+
+    // react-datepicker lookalike: current month header, next/previous, day cells
+    function datepicker(input) {
+        input.addEventListener('click', function () {
+            var existing = document.querySelector('.react-datepicker');
+            if (existing) existing.remove();
+            var shown = new Date();
+            shown.setDate(1);
+            var picker = el('div', { 'class': 'react-datepicker' });
+            function draw() {
+                picker.innerHTML = '';
+                var month = shown.toLocaleString('en-US', { month: 'long' }) + ' ' + shown.getFullYear();
+                picker.appendChild(el('button', { 'class': 'react-datepicker__navigation--previous', text: '<',
+                    onclick: function () { shown.setMonth(shown.getMonth() - 1); draw(); } }));
+                picker.appendChild(el('div', { 'class': 'react-datepicker__current-month', text: month }));
+                picker.appendChild(el('button', { 'class': 'react-datepicker__navigation--next', text: '>',
+                    onclick: function () { shown.setMonth(shown.getMonth() + 1); draw(); } }));
+                var days = new Date(shown.getFullYear(), shown.getMonth() + 1, 0).getDate();
+                var today = new Date();
+                for (var d = 1; d <= days; d++) {
+                    (function (day) {
+                        var cls = 'react-datepicker__day react-datepicker__day--0' + (day < 10 ? '0' : '') + day;
+                        if (day === today.getDate() && shown.getMonth() === today.getMonth()
+                                && shown.getFullYear() === today.getFullYear()) {
+                            cls += ' react-datepicker__day--today';
+                        }
+                        picker.appendChild(el('div', { 'class': cls, text: String(day), onclick: function () {
+                            var mm = String(shown.getMonth() + 1).padStart(2, '0');
+                            var dd = String(day).padStart(2, '0');
+                            input.value = dd + '/' + mm + '/' + shown.getFullYear();
+                            picker.remove();
+                        } }));
+                    })(d);
+                }
+            }
+            draw();
+            input.parentNode.appendChild(picker);
+        });
+        return input;
+    }
+
+    function topbar() {
+        return el('div', { 'class': 'digit-topbar' }, [
+            el('span', { 'class': 'digit-topbar-home', text: 'Home', onclick: function () { go('/employee'); } }),
+            el('span', { 'class': 'digit-topbar-ulb', text: 'Stub City' }),
+            el('span', { 'class': 'digit-back-btn', text: 'Back', onclick: function () { history.back(); } })
+        ]);
+    }
+
+    function card(text, path) {
+        return el('div', { 'class': 'card', onclick: function () { go(path); } },
+                [el('h2', { 'class': 'digit-button-label', text: text })]);
+    }
+
+    var screens = {
+        login: function () {
+            var tenant = dropdown('user-login-core_common_city', ['Stub City', 'Other City']);
+            return [
+                el('div', { 'class': 'field' }, [el('input', { name: 'username', placeholder: 'Username' })]),
+                el('div', { 'class': 'field' }, [el('input', { name: 'password', type: 'password' })]),
+                el('div', { 'class': 'field' }, [tenant]),
+                el('div', { 'class': 'field' }, [el('input', { type: 'checkbox', id: 'privacy-component-check' })]),
+                el('button', { id: 'formcomposer-submit-action', text: 'Continue', onclick: function () {
+                    api('/user/oauth/token', {}).then(function (r) {
+                        localStorage.setItem('Employee.token', r.access_token || 'stub-token');
+                        go('/employee');
+                    });
+                } })
+            ];
+        },
+        home: function () {
+            return [topbar(),
+                card('Create Complaint', '/employee/pgr/create-complaint'),
+                card('Search Complaint', '/employee/pgr/inbox-v2'),
+                card('Campaign Manager', '/employee/campaign/campaign-home'),
+                card('Create User', '/employee/hrms/create'),
+                card('Search User', '/employee/hrms/inbox')];
+        },
+        complaint: function () {
+            return [topbar(),
+                el('div', { 'class': 'field' }, [dropdown(null, ['Water Leakage', 'Garbage', 'Street Light'])]),
+                el('div', { 'class': 'field' }, [datepicker(el('input', { name: 'ComplaintDate' }))]),
+                el('div', { 'class': 'field' }, [dropdown(null, ['India', 'Mozambique'])]),
+                el('div', { 'class': 'field' }, [
+                    el('span', { 'class': 'digit-radio-btn-checkmark' }),
+                    el('span', { 'class': 'digit-radio-btn-checkmark' })]),
+                el('div', { 'class': 'field' }, [el('textarea', { name: 'description' })]),
+                el('div', { 'class': 'field' }, [el('input', { type: 'file' })]),
+                el('button', { 'class': 'digit-submit-bar', text: 'Submit', onclick: function () {
+                    api('/pgr-services/v2/request/_create', {});
+                } })];
+        },
+        campaignHome: function () {
+            return [topbar(),
+                el('div', { 'class': 'card', id: 'campaign-home-card-campaign-create-methods-campaign-create-from-scratch',
+                    text: 'Create from scratch', onclick: function (e) { e.currentTarget.classList.add('selected'); } }),
+                el('button', { id: 'campaign-campaign-home-standalone-create-new-campaign-from-scratch-btn',
+                    text: 'Continue', onclick: function () { go('/employee/campaign/create-campaign?key=1'); } })];
+        },
+        createCampaign: function () {
+            var params = new URLSearchParams(location.search);
+            var key = parseInt(params.get('key') || '1', 10);
+            var formData = JSON.parse(sessionStorage.getItem('HCM_CAMPAIGN_MANAGER_FORM_DATA') || '{}');
+            // A draft opened by id (e.g. created through the API) continues under that id
+            if (params.get('id') && !formData.id) formData.id = params.get('id');
+
+            function next() {
+                sessionStorage.setItem('HCM_CAMPAIGN_MANAGER_FORM_DATA', JSON.stringify(formData));
+                var action = formData.id ? 'update' : 'create';
+                api('/project-factory/v1/project-type/' + action, formData).then(function (r) {
+                    formData.id = formData.id || (r.CampaignDetails && r.CampaignDetails.id) || 'stub-campaign';
+                    sessionStorage.setItem('HCM_CAMPAIGN_MANAGER_FORM_DATA', JSON.stringify(formData));
+                    go('/employee/campaign/create-campaign?key=' + (key + 1) + '&id=' + formData.id);
+                });
+            }
+
+            var nextButton = el('button', { id: 'campaign-create-campaign-formcomposer-setup-campaign-primary-submit-btn',
+                text: 'Next', onclick: next });
+            var step;
+            if (key === 1) {
+                step = dropdown('campaign-create-campaign-standalone-hcm_select_campaign_type-field',
+                        ['SMC Campaign', 'Bednet Distribution'], function (text) { formData.type = text; });
+            } else if (key === 2) {
+                step = el('input', { name: 'CampaignName', value: formData.name || '',
+                    oninput: function (e) { formData.name = e.target.value; } });
+            } else if (key === 3) {
+                step = el('div', {}, [
+                    datepicker(el('input', { 'class': 'digit-employeeCard-input', placeholder: 'Start date' })),
+                    datepicker(el('input', { 'class': 'digit-employeeCard-input', placeholder: 'End date' }))]);
+            } else if (key === 4) {
+                return [topbar(), el('button', { id: 'campaign-details-page-button-selecting-boundaries', text: 'Define target',
+                    onclick: function () { go('/employee/campaign/create-campaign?key=5&id=' + formData.id); } })];
+            } else {
+                return [topbar(), boundaries()];
+            }
+            return [topbar(), el('div', { 'class': 'field' }, [step]), nextButton];
+        },
+        blank: function () {
+            return [topbar(), el('h1', { text: location.pathname })];
+        }
+    };
+
+    // Boundary step: one multi-select per hierarchy level. A level lists the
+    // children of the nodes selected in the level above; its children are
+    // fetched when its popup is closed with a changed selection.
+    function boundaries() {
+        var container = el('div', {}, [el('div', { 'class': 'boundary-selection-label', text: 'Select boundaries' })]);
+        var nextButton = el('button', { id: 'campaign-create-campaign-formcomposer-setup-campaign-primary-submit-btn',
+            text: 'Next', disabled: 'disabled' });
+        var levels = [];
+
+        function label(type) {
+            return type.charAt(0) + type.substring(1).toLowerCase();
+        }
+
+        function updateNext() {
+            var last = levels[levels.length - 1];
+            var leaf = last && last.nodes.length && !last.nodes[0].children.length;
+            nextButton.disabled = !(leaf && last.selected.length);
+        }
+
+        function addLevel(nodes) {
+            var index = levels.length;
+            var state = { nodes: nodes, selected: [], changed: false };
+            var options = null;
+            var search = el('input', { type: 'text', 'class': 'digit-multiselectdropdown-search', placeholder: 'Select' });
+            var master = el('div', { 'class': 'digit-multiselectdropdown-master' }, [search]);
+            var wrap = el('div', { 'class': 'digit-multiselectdropdown-wrap' }, [master]);
+            var level = el('div', { 'class': 'selecting-boundaries-dropdown' },
+                    [el('label', { text: label(nodes[0].boundaryType) }), wrap]);
+
+            state.close = function () {
+                if (!options) return;
+                options.remove();
+                options = null;
+                if (!state.changed) return;
+                state.changed = false;
+                while (levels.length > index + 1) levels.pop().element.remove();
+                updateNext();
+                var children = [];
+                state.selected.forEach(function (node) { children = children.concat(node.children); });
+                if (children.length) {
+                    api('/boundary-service/boundary-relationships/_search?parent=' + state.selected.length, {})
+                        .then(function () { addLevel(children); });
+                }
+            };
+
+            master.addEventListener('click', function () {
+                if (options) { state.close(); return; }
+                levels.forEach(function (other) { if (other !== state) other.close(); });
+                options = el('div', { 'class': 'digit-multiselectdropdown-options' }, nodes.map(function (node) {
+                    var box = el('input', { type: 'checkbox' });
+                    box.checked = state.selected.indexOf(node) >= 0;
+                    return el('div', { 'class': 'digit-multiselectdropdown-item', onclick: function (e) {
+                        e.stopPropagation();
+                        if (e.target !== box) box.checked = !box.checked;
+                        var at = state.selected.indexOf(node);
+                        if (box.checked && at < 0) state.selected.push(node);
+                        if (!box.checked && at >= 0) state.selected.splice(at, 1);
+                        state.changed = true;
+                        updateNext();
+                    } }, [box, el('p', { text: node.code })]);
+                }));
+                wrap.appendChild(options);
+            });
+
+            state.element = level;
+            levels.push(state);
+            container.insertBefore(level, nextButton);
+            updateNext();
+        }
+
+        // A click anywhere outside a dropdown closes (and commits) the open one
+        if (window.boundaryLevels === undefined) {
+            document.addEventListener('click', function (e) {
+                if (!e.target.closest('.digit-multiselectdropdown-wrap')) {
+                    window.boundaryLevels.forEach(function (state) { state.close(); });
+                }
+            });
+        }
+        window.boundaryLevels = levels;
+
+        container.appendChild(nextButton);
+        api('/boundary-service/boundary-relationships/_search', {}).then(function (r) {
+            var roots = (r.TenantBoundary && r.TenantBoundary[0] && r.TenantBoundary[0].boundary) || [];
+            if (roots.length) addLevel(roots);
+        });
+        return container;
+    }
+
+    function screenFor(path) {
+        if (!localStorage.getItem('Employee.token') || path.indexOf('/user/login') >= 0) return 'login';
+        if (path.indexOf('/pgr/create-complaint') >= 0) return 'complaint';
+        if (path.indexOf('/campaign/campaign-home') >= 0) return 'campaignHome';
+        if (path.indexOf('/campaign/create-campaign') >= 0) return 'createCampaign';
+        if (/\/employee\/?$/.test(path)) return 'home';
+        return 'blank';
+    }
+
+    function render() {
+        root.innerHTML = '';
+        screens[screenFor(location.pathname)]().forEach(function (node) { root.appendChild(node); });
+    }
+
+    window.addEventListener('popstate', render);
+    render();
+})();